@@ -0,0 +1,32 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.service.ratelimit.Bulkhead;
+import com.example.backend.service.ratelimit.TokenBucketRateLimiter;
+
+/**
+ * AI 프록시(/api/ai/proxy) 보호 설정
+ * 챗봇 트래픽이 몰려도 요청 스레드를 모두 점유하지 않도록 동시 실행 수와 클라이언트별 요청 속도를 제한
+ */
+@Configuration
+public class AiProxyConfig {
+
+    @Bean
+    public Bulkhead aiProxyBulkhead(
+            @Value("${openai.bulkhead.max-concurrent:8}") int maxConcurrent,
+            @Value("${openai.bulkhead.max-queue:16}") int maxQueue,
+            @Value("${openai.bulkhead.max-wait-ms:2000}") long maxWaitMs) {
+        return new Bulkhead(maxConcurrent, maxQueue, maxWaitMs);
+    }
+
+    @Bean
+    public TokenBucketRateLimiter aiProxyRateLimiter(
+            @Value("${openai.rate-limit.capacity:10}") int capacity,
+            @Value("${openai.rate-limit.refill-per-minute:20}") int refillPerMinute,
+            @Value("${openai.rate-limit.max-clients:10000}") int maxClients) {
+        return new TokenBucketRateLimiter(capacity, refillPerMinute, maxClients);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * BaseEntity.createdAt(@CreatedDate) 자동 기록
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
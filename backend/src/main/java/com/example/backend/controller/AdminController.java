@@ -7,7 +7,11 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.backend.controller.utility.ResponseController;
 import com.example.backend.dto.admin.ItemResistraionRequest;
+import com.example.backend.dto.admin.ItemVariantStockRequest;
+import com.example.backend.dto.admin.OrderStatusRequest;
+import com.example.backend.entity.item.enums.OrderStatus;
 import com.example.backend.service.AdminService;
+import com.example.backend.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,10 +20,13 @@ import java.util.List;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 
@@ -30,6 +37,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class AdminController {
 
     private final AdminService adminService;
+    private final OrderService orderService;
 
     /**
      * Save Item
@@ -76,6 +84,25 @@ public class AdminController {
     }
     
 
+    /**
+     * Update Variant Stocks (색상 x 사이즈별 재고)
+     * @param itemId
+     * @param stocks
+     * @return
+     */
+    @PutMapping("/{itemId}/stock")
+    public ResponseEntity<?> updateVariantStocks(
+            @PathVariable("itemId") Long itemId,
+            @RequestBody List<ItemVariantStockRequest> stocks) {
+        try {
+            adminService.updateVariantStocks(itemId, stocks);
+            return ResponseController.success(null);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseController.fail(e);
+        }
+    }
+
     /**
      * Delete Item
      * @param itemId
@@ -91,4 +118,47 @@ public class AdminController {
             return ResponseController.fail(e);
         }
     }
+
+    /**
+     * Order List by Status (오래된 주문부터, 커서 페이지네이션)
+     * @param status
+     * @param cursor 이전 응답의 nextCursor
+     * @param size
+     * @return
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<?> getOrders(
+            @RequestParam(value = "status", defaultValue = "PAID") OrderStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseController.success(orderService.getAdminOrders(status, cursor, Math.min(Math.max(size, 1), 100)));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseController.fail(e);
+        }
+    }
+
+    /**
+     * Change Order Status (배송 시작, 배송 완료 등)
+     * @param orderId
+     * @param dto
+     * @return
+     */
+    @PutMapping("/orders/{orderId}/status")
+    public ResponseEntity<?> changeOrderStatus(
+            @PathVariable("orderId") Long orderId,
+            @RequestBody OrderStatusRequest dto) {
+        try {
+            // 결제 완료/취소는 결제 API에서만 (PG 결제와 상태가 어긋나지 않도록)
+            if (dto.getStatus() != OrderStatus.SHIPPED && dto.getStatus() != OrderStatus.DELIVERED) {
+                throw new RuntimeException("배송 상태(SHIPPED, DELIVERED)만 변경할 수 있습니다.");
+            }
+            orderService.changeStatus(orderId, dto.getStatus());
+            return ResponseController.success(null);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseController.fail(e);
+        }
+    }
 }
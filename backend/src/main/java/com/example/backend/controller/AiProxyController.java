@@ -3,13 +3,21 @@ package com.example.backend.controller;
 import com.example.backend.controller.utility.ResponseController;
 import com.example.backend.dto.AiProxyRequest;
 import com.example.backend.dto.AiProxyResponse;
+import com.example.backend.security.AuthUser;
 import com.example.backend.service.AiProxyService;
+import com.example.backend.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/ai/proxy")
@@ -17,14 +25,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class AiProxyController {
 
     private final AiProxyService aiProxyService;
+    private final UserService userService;
 
     @PostMapping
-    public ResponseEntity<?> proxy(@RequestBody AiProxyRequest request) {
+    public ResponseEntity<?> proxy(@RequestBody AiProxyRequest request, HttpServletRequest httpRequest) {
         try {
-            AiProxyResponse response = aiProxyService.send(request);
+            AiProxyResponse response = aiProxyService.send(request, clientKey(httpRequest));
             return ResponseController.success(response);
         } catch (Exception e) {
             return ResponseController.fail(e);
         }
     }
+
+    /**
+     * 스트리밍 응답 (SSE) - 토큰 조각은 기본 이벤트, 끝나면 done, 실패하면 error 이벤트
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> stream(@RequestBody AiProxyRequest request, HttpServletRequest httpRequest) {
+        return aiProxyService.stream(request, clientKey(httpRequest));
+    }
+
+    /**
+     * 동시 실행/대기열/거절 현황 (관리자)
+     */
+    @GetMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> metrics() {
+        try {
+            return ResponseController.success(aiProxyService.getMetrics());
+        } catch (Exception e) {
+            return ResponseController.fail(e);
+        }
+    }
+
+    // 요청 속도 제한 단위 - 로그인 사용자는 사용자 ID, 비로그인은 IP
+    private String clientKey(HttpServletRequest httpRequest) {
+        AuthUser authUser = userService.getAuthUser();
+        return authUser != null ? "user:" + authUser.userId() : "ip:" + httpRequest.getRemoteAddr();
+    }
 }
@@ -2,6 +2,9 @@ package com.example.backend.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.backend.controller.utility.ResponseController;
 import com.example.backend.dto.banner.BannerRequest;
 import com.example.backend.dto.banner.BannerResponse;
+import com.example.backend.dto.banner.BannerSnapshot;
 import com.example.backend.service.BannerService;
 
 import lombok.RequiredArgsConstructor;
@@ -33,10 +38,20 @@ public class BannerController {
      * 활성화된 배너 목록 조회 (비회원 접근 가능)
      */
     @GetMapping
-    public ResponseEntity<?> getActiveBanners() {
+    public ResponseEntity<?> getActiveBanners(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            List<BannerResponse> banners = bannerService.getActiveBanners();
-            return ResponseController.success(banners);
+            BannerSnapshot snapshot = bannerService.getActiveBannerSnapshot();
+            // 클라이언트가 가진 버전과 같으면 본문 없이 304 응답
+            if (snapshot.etag().equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(snapshot.etag())
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .body(ResponseController.success(snapshot.banners()).getBody());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseController.fail(e);
@@ -4,6 +4,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.controller.utility.ResponseController;
+import com.example.backend.dto.item.CursorPageResponse;
+import com.example.backend.dto.item.FacetCountsResponse;
 import com.example.backend.dto.item.IndexItemRequest;
 import com.example.backend.dto.item.IndexItemResponse;
 import com.example.backend.dto.item.ShowItemResponse;
@@ -57,9 +59,31 @@ public class ItemController {
             List<String> sizes = searchParams.getItemSizes();
             Integer minPrice = searchParams.getMinPrice();
             Integer maxPrice = searchParams.getMaxPrice();
+            Boolean inStock = searchParams.getInStock();
             User user = userService.checkLoginAndGetUser();
+            // cursor 파라미터가 있으면 키셋(커서) 페이지네이션 모드
+            if (searchParams.getCursor() != null) {
+                CursorPageResponse<IndexItemResponse> response = itemService.indexItemByCursor(pageable.getPageSize(), pageable.getSort(), searchParams, user);
+                return ResponseController.success(response);
+            }
             // customUserDetails null 체크 필요
-            Page<IndexItemResponse> response = itemService.indexItem(pageable, searchField, searchTerm, majorCategory, middleCategory, subcategory, colors, sizes, minPrice, maxPrice, user);
+            Page<IndexItemResponse> response = itemService.indexItem(pageable, searchField, searchTerm, majorCategory, middleCategory, subcategory, colors, sizes, minPrice, maxPrice, inStock, user);
+            return ResponseController.success(response);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseController.fail(e);
+        }
+    }
+
+    /**
+     * 필터 사이드바 패싯 카운트 조회
+     * @param searchParams 현재 적용된 필터 (목록 조회와 동일한 파라미터)
+     * @return ResponseEntity<?>
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<?> facetCounts(IndexItemRequest searchParams) {
+        try {
+            FacetCountsResponse response = itemService.getFacetCounts(searchParams);
             return ResponseController.success(response);
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
@@ -14,6 +16,7 @@ import com.example.backend.dto.order.OrderRequest;
 import com.example.backend.entity.user.User;
 import com.example.backend.service.OrderService;
 import com.example.backend.service.UserService;
+import com.example.backend.service.order.OrderNumberGenerator;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -30,13 +33,16 @@ public class OrderController {
 
     private final UserService userService;
     private final OrderService orderService;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     @PostMapping
     public ResponseEntity<?> order(@RequestBody OrderRequest dto) {
         try {
             User user = userService.checkLoginAndGetUser();
-            orderService.order(dto, user);
-            return ResponseController.success(null);
+            // 주문 트랜잭션 시작 전에 발급 - 블록 할당(새 트랜잭션)이 커넥션을 하나 더 잡지 않도록
+            String orderNumber = orderService.order(dto, user, orderNumberGenerator.next());
+            // 결제 요청 시 이 주문 번호를 사용해야 결제 승인 때 재고 예약이 확정됨
+            return ResponseController.success(Map.of("order_id", orderNumber));
         } catch (Exception e) {
             return ResponseController.fail(e);
 
@@ -1,15 +1,17 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.ResponseDto;
+import com.example.backend.entity.item.utility.Payment;
+import com.example.backend.service.payment.PaymentService;
+import com.example.backend.service.payment.TossPaymentClient;
+import com.example.backend.service.payment.TossPaymentException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,17 +21,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PaymentController {
 
-    @Value("${toss.payments.secret-key:test_gck_docs_Ovk5rk1EwkEbP0W43n07xlzm}")
-    private String secretKey;
+    private final TossPaymentClient tossPaymentClient;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final PaymentService paymentService;
 
     /**
      * 토스페이먼츠 결제 승인 API
      * 프론트엔드에서 결제 성공 후 호출
      */
     @PostMapping("/confirm")
-    public ResponseEntity<ResponseDto<Map<String, Object>>> confirmPayment(
+    public Mono<ResponseEntity<ResponseDto<Map<String, Object>>>> confirmPayment(
             @RequestBody Map<String, Object> request) {
 
         String paymentKey = (String) request.get("paymentKey");
@@ -37,147 +38,114 @@ public class PaymentController {
         Number amountNum = (Number) request.get("amount");
 
         if (paymentKey == null || orderId == null || amountNum == null) {
-            return ResponseEntity.badRequest().body(
-                    ResponseDto.<Map<String, Object>>builder()
-                            .success(false)
-                            .message("필수 파라미터가 누락되었습니다.")
-                            .result(null)
-                            .build()
-            );
+            return Mono.just(fail("필수 파라미터가 누락되었습니다."));
         }
 
         int amount = amountNum.intValue();
 
+        // 원장 확인 - 금액 불일치, 만료된 재고 예약, 처리 중인 중복 요청은 PG 호출 없이 거절
+        PaymentService.Attempt attempt;
         try {
-            // 토스페이먼츠 결제 승인 API 호출
-            String url = "https://api.tosspayments.com/v1/payments/confirm";
-
-            // Basic 인증 헤더 생성
-            String credentials = secretKey + ":";
-            String encodedCredentials = Base64.getEncoder()
-                    .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Basic " + encodedCredentials);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("paymentKey", paymentKey);
-            body.put("orderId", orderId);
-            body.put("amount", amount);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("paymentKey", paymentKey);
-                result.put("orderId", orderId);
-                result.put("amount", amount);
-                result.put("orderName", response.getBody().get("orderName"));
-                result.put("method", response.getBody().get("method"));
-                result.put("approvedAt", response.getBody().get("approvedAt"));
-                result.put("status", response.getBody().get("status"));
-
-                log.info("결제 승인 성공: orderId={}, amount={}", orderId, amount);
-                return ResponseEntity.ok(
-                        ResponseDto.<Map<String, Object>>builder()
-                                .success(true)
-                                .result(result)
-                                .build()
-                );
-            } else {
-                log.error("결제 승인 실패: response={}", response);
-                return ResponseEntity.badRequest().body(
-                        ResponseDto.<Map<String, Object>>builder()
-                                .success(false)
-                                .message("결제 승인에 실패했습니다.")
-                                .result(null)
-                                .build()
-                );
-            }
-
+            attempt = paymentService.begin(paymentKey, orderId, amount);
         } catch (Exception e) {
-            log.error("결제 승인 중 오류 발생: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body(
-                    ResponseDto.<Map<String, Object>>builder()
-                            .success(false)
-                            .message("결제 처리 중 오류가 발생했습니다: " + e.getMessage())
-                            .result(null)
-                            .build()
-            );
+            log.warn("결제 승인 요청 거절: orderId={}, {}", orderId, e.getMessage());
+            return Mono.just(fail(e.getMessage()));
+        }
+        // 이미 승인된 결제 (새로고침, 중복 클릭) - 원장으로 응답
+        if (attempt.alreadyApproved()) {
+            return Mono.just(success(PaymentService.toResult(attempt.approved())));
         }
+
+        // PG 응답을 기다리는 동안 요청 스레드를 반납, 원장/재고 확정(JPA)은 블로킹 허용 스케줄러에서 실행
+        return tossPaymentClient.confirm(paymentKey, orderId, amount)
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(response -> {
+                    try {
+                        Payment payment = paymentService.approve(orderId, attempt.orderItemId(), response);
+                        log.info("결제 승인 성공: orderId={}, amount={}", orderId, amount);
+                        return Mono.just(success(PaymentService.toResult(payment)));
+                    } catch (Exception e) {
+                        // 승인 직전에 예약이 만료되어 재고를 다시 확보하지 못했거나 그 사이 주문이 취소된 경우 결제 취소
+                        // 취소 대기로 먼저 기록 - 아래 PG 취소가 실패하면 PaymentCancelRetrier가 재시도
+                        log.error("재고 확정 실패로 결제 취소: orderId={}", orderId, e);
+                        try {
+                            paymentService.requestCancel(orderId, e.getMessage());
+                        } catch (Exception recordError) {
+                            log.error("결제 취소 대기 기록 실패: orderId={}", orderId, recordError);
+                        }
+                        return tossPaymentClient.cancel(paymentKey, PaymentService.STOCK_CANCEL_REASON)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnSuccess(canceled -> paymentService.cancelRequested(orderId))
+                                .doOnError(cancelError -> log.error("재고 부족 결제 취소 실패, 재시도 대기: orderId={}", orderId, cancelError))
+                                .onErrorResume(cancelError -> Mono.empty())
+                                .then(Mono.just(fail(e.getMessage())));
+                    }
+                })
+                .onErrorResume(e -> Mono.fromCallable(() -> {
+                    log.error("결제 승인 중 오류 발생: {}", e.getMessage(), e);
+                    if (e instanceof TossPaymentException tossError && !tossError.isTransient()
+                            && tossError.getStatus() > 0) {
+                        // PG가 거절 - 같은 paymentKey 재요청은 원장으로 응답
+                        paymentService.fail(orderId, tossError.getCode(), tossError.getMessage());
+                    } else {
+                        // 결과 불명 - 다음 요청이 같은 멱등키로 다시 확인할 수 있게 점유 해제
+                        paymentService.release(orderId);
+                    }
+                    return fail("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
+                }).subscribeOn(Schedulers.boundedElastic()));
     }
 
     /**
      * 결제 취소 API
      */
     @PostMapping("/cancel")
-    public ResponseEntity<ResponseDto<Map<String, Object>>> cancelPayment(
+    public Mono<ResponseEntity<ResponseDto<Map<String, Object>>>> cancelPayment(
             @RequestBody Map<String, Object> request) {
 
         String paymentKey = (String) request.get("paymentKey");
         String cancelReason = (String) request.get("cancelReason");
 
         if (paymentKey == null) {
-            return ResponseEntity.badRequest().body(
-                    ResponseDto.<Map<String, Object>>builder()
-                            .success(false)
-                            .message("paymentKey가 필요합니다.")
-                            .result(null)
-                            .build()
-            );
+            return Mono.just(fail("paymentKey가 필요합니다."));
         }
-
         try {
-            String url = "https://api.tosspayments.com/v1/payments/" + paymentKey + "/cancel";
-
-            String credentials = secretKey + ":";
-            String encodedCredentials = Base64.getEncoder()
-                    .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Basic " + encodedCredentials);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("cancelReason", cancelReason != null ? cancelReason : "고객 요청");
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.info("결제 취소 성공: paymentKey={}", paymentKey);
-                Map<String, Object> result = new HashMap<>();
-                result.put("paymentKey", paymentKey);
-                result.put("status", "CANCELED");
-                return ResponseEntity.ok(
-                        ResponseDto.<Map<String, Object>>builder()
-                                .success(true)
-                                .result(result)
-                                .build()
-                );
-            } else {
-                return ResponseEntity.badRequest().body(
-                        ResponseDto.<Map<String, Object>>builder()
-                                .success(false)
-                                .message("결제 취소에 실패했습니다.")
-                                .result(null)
-                                .build()
-                );
-            }
-
+            paymentService.checkCancelable(paymentKey);
         } catch (Exception e) {
-            log.error("결제 취소 중 오류 발생: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body(
-                    ResponseDto.<Map<String, Object>>builder()
-                            .success(false)
-                            .message("결제 취소 처리 중 오류가 발생했습니다.")
-                            .result(null)
-                            .build()
-            );
+            return Mono.just(fail(e.getMessage()));
         }
+
+        return tossPaymentClient.cancel(paymentKey, cancelReason != null ? cancelReason : "고객 요청")
+                .publishOn(Schedulers.boundedElastic())
+                .map(payment -> {
+                    paymentService.cancelApproved(paymentKey);
+                    log.info("결제 취소 성공: paymentKey={}", paymentKey);
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("paymentKey", paymentKey);
+                    result.put("status", "CANCELED");
+                    return success(result);
+                })
+                .onErrorResume(e -> {
+                    log.error("결제 취소 중 오류 발생: {}", e.getMessage(), e);
+                    return Mono.just(fail("결제 취소 처리 중 오류가 발생했습니다."));
+                });
+    }
+
+    private static ResponseEntity<ResponseDto<Map<String, Object>>> success(Map<String, Object> result) {
+        return ResponseEntity.ok(
+                ResponseDto.<Map<String, Object>>builder()
+                        .success(true)
+                        .result(result)
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<ResponseDto<Map<String, Object>>> fail(String message) {
+        return ResponseEntity.badRequest().body(
+                ResponseDto.<Map<String, Object>>builder()
+                        .success(false)
+                        .message(message)
+                        .result(null)
+                        .build()
+        );
     }
 }
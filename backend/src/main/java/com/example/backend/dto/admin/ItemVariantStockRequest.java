@@ -0,0 +1,18 @@
+package com.example.backend.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemVariantStockRequest {
+    private String color;
+    private String size;
+    private Integer stock;
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto.admin;
+
+import com.example.backend.entity.item.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusRequest {
+    private OrderStatus status;
+}
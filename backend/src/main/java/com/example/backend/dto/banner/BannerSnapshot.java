@@ -0,0 +1,14 @@
+package com.example.backend.dto.banner;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 활성 배너 목록 스냅샷 (불변)
+ * @param version  배너 변경 시마다 증가하는 버전
+ * @param etag     배너 내용 기반 ETag (노드/재시작과 무관하게 같은 내용이면 같은 값)
+ * @param banners  활성 배너 목록
+ * @param loadedAt 스냅샷 생성 시각
+ */
+public record BannerSnapshot(long version, String etag, List<BannerResponse> banners, Instant loadedAt) {
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto.item;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    // withTotal=true 요청 시에만 COUNT 쿼리 실행, 그 외 null
+    private Long totalElements;
+}
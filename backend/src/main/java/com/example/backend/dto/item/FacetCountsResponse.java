@@ -0,0 +1,29 @@
+package com.example.backend.dto.item;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 필터 사이드바 패싯 카운트
+ * 각 항목의 카운트는 "자기 자신을 제외한 나머지 필터"를 적용한 결과 (같은 그룹 내 OR 선택 지원)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsResponse {
+    // 현재 필터 전체를 적용한 상품 수
+    private int total;
+    private Map<String, Integer> majorCategories;
+    private Map<String, Integer> middleCategories;
+    private Map<String, Integer> subcategories;
+    private Map<String, Integer> colors;
+    private Map<String, Integer> sizes;
+    private Map<String, Integer> priceRanges;
+}
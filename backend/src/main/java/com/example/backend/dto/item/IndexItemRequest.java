@@ -26,4 +26,10 @@ public class IndexItemRequest {
     private List<String> itemSizes;
     private Integer minPrice;
     private Integer maxPrice;
+    // 선택한 색상/사이즈 재고가 있는 상품만 (예: ?itemSizes=M&inStock=true -> M 사이즈 재고가 있는 상품)
+    private Boolean inStock;
+    // 키셋 페이지네이션 커서 (파라미터가 있으면 커서 모드, 첫 페이지는 빈 값 ?cursor=)
+    private String cursor;
+    // 커서 모드에서 전체 개수(COUNT)가 필요할 때만 true
+    private Boolean withTotal;
 }
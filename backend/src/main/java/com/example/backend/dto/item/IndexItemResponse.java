@@ -36,14 +36,48 @@ public class IndexItemResponse {
     private List<String> colors;
     private List<String> sizes;
 
-    public static IndexItemResponse fromEntity(Item item, boolean isFavorite, boolean isCart) {
-        // 재고에 따른 판매 상태 결정
-        String status = "ON_SALE";
-        if (item.getStock() == null || item.getStock() <= 0) {
-            status = "SOLD_OUT";
-        } else if (item.getStock() < 10) {
-            status = "LOW_STOCK";
+    // 재고에 따른 판매 상태 결정
+    private static String statusOf(Integer stock) {
+        if (stock == null || stock <= 0) {
+            return "SOLD_OUT";
+        } else if (stock < 10) {
+            return "LOW_STOCK";
         }
+        return "ON_SALE";
+    }
+
+    /**
+     * 카드 프로젝션으로 생성 (목록 조회용 - 엔티티/연관 컬렉션 미사용)
+     */
+    public static IndexItemResponse fromCard(ItemCardRow card, List<String> colors, List<String> sizes, boolean isFavorite, boolean isCart) {
+        int reviewCount = card.reviewCount() != null ? card.reviewCount() : 0;
+        int reviewAverage = reviewCount > 0 && card.reviewScoreSum() != null
+                ? (int) Math.round((double) card.reviewScoreSum() / reviewCount)
+                : 0;
+
+        return IndexItemResponse.builder()
+                .id(card.id())
+                .title(card.title())
+                .brand(card.brand())
+                .price(card.price())
+                .discountPercent(card.discountPercent())
+                .realPrice(card.realPrice())
+                .mainImageUrl(card.mainImageUrl())
+                .isFavorite(isFavorite)
+                .isCart(isCart)
+                .likeCount(card.likeCount() != null ? card.likeCount() : 0)
+                .cartCount(card.cartCount() != null ? card.cartCount() : 0)
+                .reviewCount(reviewCount)
+                .reviewAverage(reviewAverage)
+                .stock(card.stock())
+                .status(statusOf(card.stock()))
+                .colors(colors)
+                .sizes(sizes)
+                .build();
+    }
+
+    public static IndexItemResponse fromEntity(Item item, boolean isFavorite, boolean isCart) {
+        String status = statusOf(item.getStock());
 
         // 색상 목록 추출
         List<String> colors = item.getColorList() != null
@@ -59,22 +93,11 @@ public class IndexItemResponse {
                 .collect(Collectors.toList())
             : List.of();
 
-        // 장바구니에 담긴 수
-        int cartCount = item.getCartItemList() != null ? item.getCartItemList().size() : 0;
-
-        // 리뷰 수
-        int reviewCount = item.getReviewList() != null ? item.getReviewList().size() : 0;
-
-        // 리뷰 평균 점수 (1~5점, 정수 반올림)
-        int reviewAverage = 0;
-        if (item.getReviewList() != null && !item.getReviewList().isEmpty()) {
-            double avg = item.getReviewList().stream()
-                .filter(r -> r.getScore() != null)
-                .mapToInt(r -> r.getScore())
-                .average()
-                .orElse(0.0);
-            reviewAverage = (int) Math.round(avg);
-        }
+        // 장바구니 수 / 리뷰 수 / 리뷰 평균 점수 (1~5점, 정수 반올림)
+        // 연관 컬렉션을 로딩하지 않도록 Item의 집계 컬럼을 사용
+        int cartCount = item.getCartCount() != null ? item.getCartCount() : 0;
+        int reviewCount = item.getReviewCount() != null ? item.getReviewCount() : 0;
+        int reviewAverage = (int) Math.round(item.calculateReviewAverage());
 
         return IndexItemResponse.builder()
                 .id(item.getId())
@@ -0,0 +1,21 @@
+package com.example.backend.dto.item;
+
+/**
+ * 상품 카드(목록) 프로젝션 - 카드에 필요한 컬럼만 조회 (description, 연관 컬렉션 제외)
+ * 영속성 컨텍스트에 올라가지 않으므로 dirty checking/스냅샷 비용 없음
+ */
+public record ItemCardRow(
+        Long id,
+        String title,
+        String brand,
+        Integer price,
+        Integer discountPercent,
+        Integer realPrice,
+        String mainImageUrl,
+        Integer likeCount,
+        Integer cartCount,
+        Integer reviewCount,
+        Integer reviewScoreSum,
+        Integer stock
+) {
+}
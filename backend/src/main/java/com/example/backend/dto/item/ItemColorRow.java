@@ -0,0 +1,9 @@
+package com.example.backend.dto.item;
+
+import com.example.backend.entity.item.enums.ColorEnum;
+
+/**
+ * 상품별 색상 옵션 프로젝션
+ */
+public record ItemColorRow(Long itemId, ColorEnum color) {
+}
@@ -0,0 +1,12 @@
+package com.example.backend.dto.item;
+
+import com.example.backend.entity.item.enums.MajorCategoryEnum;
+import com.example.backend.entity.item.enums.MiddleCategoryEnum;
+import com.example.backend.entity.item.enums.SubcategoryEnum;
+
+/**
+ * 패싯 인덱스 구성용 프로젝션 (카테고리, 판매가)
+ */
+public record ItemFacetDocument(Long id, MajorCategoryEnum majorCategory, MiddleCategoryEnum middleCategory,
+        SubcategoryEnum subcategory, Integer realPrice) {
+}
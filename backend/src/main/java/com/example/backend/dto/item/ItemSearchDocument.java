@@ -0,0 +1,7 @@
+package com.example.backend.dto.item;
+
+/**
+ * 검색 인덱스 구성용 프로젝션 (연관 컬렉션 없이 검색 대상 컬럼만 조회)
+ */
+public record ItemSearchDocument(Long id, String title, String brand, String description) {
+}
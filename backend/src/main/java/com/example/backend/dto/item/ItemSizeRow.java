@@ -0,0 +1,9 @@
+package com.example.backend.dto.item;
+
+import com.example.backend.entity.item.enums.SizeEnum;
+
+/**
+ * 상품별 사이즈 옵션 프로젝션
+ */
+public record ItemSizeRow(Long itemId, SizeEnum size) {
+}
@@ -0,0 +1,7 @@
+package com.example.backend.dto.item;
+
+/**
+ * 상품 단위 재고 프로젝션
+ */
+public record ItemStockRow(Long itemId, Integer stock) {
+}
@@ -0,0 +1,10 @@
+package com.example.backend.dto.item;
+
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+
+/**
+ * 옵션(색상 x 사이즈)별 재고 프로젝션
+ */
+public record ItemVariantStockRow(Long itemId, ColorEnum color, SizeEnum size, Integer stock) {
+}
@@ -13,7 +13,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ShowItemResponse {
@@ -37,20 +37,21 @@ public class ShowItemResponse {
     private Integer reviewCount;
     private Double reviewAverage;
 
-    public static ShowItemResponse fromEntity(Item item, boolean isFavorite, boolean isCart) {
-        // 리뷰 수
-        int reviewCount = item.getReviewList() != null ? item.getReviewList().size() : 0;
+    /**
+     * 캐시된 공통 응답에 요청마다 조회한 재고와 사용자별 즐겨찾기/장바구니 여부를 덮어쓴 복사본
+     */
+    public ShowItemResponse withLiveValues(Integer stock, boolean isFavorite, boolean isCart) {
+        return this.toBuilder()
+                .stock(stock)
+                .isFavorite(isFavorite)
+                .isCart(isCart)
+                .build();
+    }
 
-        // 리뷰 평균 점수 (소수점 1자리)
-        double reviewAverage = 0.0;
-        if (item.getReviewList() != null && !item.getReviewList().isEmpty()) {
-            reviewAverage = item.getReviewList().stream()
-                .filter(r -> r.getScore() != null)
-                .mapToInt(r -> r.getScore())
-                .average()
-                .orElse(0.0);
-            reviewAverage = Math.round(reviewAverage * 10) / 10.0;
-        }
+    public static ShowItemResponse fromEntity(Item item, boolean isFavorite, boolean isCart) {
+        // 리뷰 수 / 리뷰 평균 점수 (소수점 1자리) - Item의 집계 컬럼 사용
+        int reviewCount = item.getReviewCount() != null ? item.getReviewCount() : 0;
+        double reviewAverage = Math.round(item.calculateReviewAverage() * 10) / 10.0;
 
         return ShowItemResponse.builder()
                 .id(item.getId())
@@ -0,0 +1,21 @@
+package com.example.backend.dto.order;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.entity.item.enums.OrderStatus;
+
+/**
+ * 관리자 주문 목록 조회용 프로젝션 (배송 처리에 필요한 컬럼만)
+ */
+public record AdminOrderRow(
+        Long id,
+        OrderStatus status,
+        Integer totalPrice,
+        Integer lineCount,
+        String firstItemTitle,
+        String addr,
+        String zipcode,
+        String call,
+        LocalDateTime createdAt
+) {
+}
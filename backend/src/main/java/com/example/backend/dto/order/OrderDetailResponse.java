@@ -2,16 +2,13 @@ package com.example.backend.dto.order;
 
 import java.util.List;
 
-import com.example.backend.entity.item.Item;
-
-import jakarta.persistence.criteria.CriteriaBuilder.In;
 import lombok.Builder;
 import lombok.Value;
 
 @Builder
 @Value
 public class OrderDetailResponse {
-    List<Item> items;
+    List<OrderLineRow> items;
     Integer totalPrice;
     String addr;
     String call;
@@ -0,0 +1,25 @@
+package com.example.backend.dto.order;
+
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 주문 상세의 주문 상품 한 줄 (프론트 OrderDetailItem 필드명)
+ * @param price 주문 시점 판매가 (기존 주문은 현재 판매가)
+ */
+public record OrderLineRow(
+        @JsonProperty("item_id") Long itemId,
+        String title,
+        @JsonProperty("main_img_url") String mainImgUrl,
+        Integer price,
+        Integer quantity,
+        ColorEnum color,
+        SizeEnum size
+) {
+
+    @JsonProperty("totalPrice")
+    public Integer lineTotal() {
+        return price != null && quantity != null ? price * quantity : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto.order;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.entity.item.enums.OrderStatus;
+
+/**
+ * 주문 목록 조회용 프로젝션 (OrderItem 요약 컬럼만)
+ */
+public record OrderSummaryRow(
+        Long id,
+        Integer totalPrice,
+        Integer lineCount,
+        String firstItemTitle,
+        String firstItemImageUrl,
+        OrderStatus status,
+        LocalDateTime createdAt
+) {
+}
@@ -28,7 +28,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -42,6 +44,12 @@ import lombok.Setter;
 @Setter
 
 @Entity
+// 키셋 페이지네이션 정렬 키 + id 복합 인덱스
+@Table(indexes = {
+    @Index(name = "idx_item_price_id", columnList = "price, id"),
+    @Index(name = "idx_item_like_count_id", columnList = "likeCount, id"),
+    @Index(name = "idx_item_review_count_id", columnList = "reviewCount, id")
+})
 public class Item extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -69,6 +77,14 @@ public class Item extends BaseEntity {
     @Builder.Default
     @Column
     private Integer reviewCount = 0;
+    // 리뷰 점수 합계 (평균 = reviewScoreSum / reviewCount)
+    @Builder.Default
+    @Column
+    private Integer reviewScoreSum = 0;
+    // 장바구니에 담긴 수
+    @Builder.Default
+    @Column
+    private Integer cartCount = 0;
     @Builder.Default
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ItemImage> imageList = new ArrayList<>();
@@ -147,6 +163,11 @@ public class Item extends BaseEntity {
         return this.realPrice;
     }
 
+    public double calculateReviewAverage() {
+        if (this.reviewCount == null || this.reviewCount <= 0 || this.reviewScoreSum == null) return 0.0;
+        return (double) this.reviewScoreSum / this.reviewCount;
+    }
+
     public Integer calculateRealPrice() {
         if (this.price == null) return 0;
         int discount = this.discountPercent != null ? this.discountPercent : 0;
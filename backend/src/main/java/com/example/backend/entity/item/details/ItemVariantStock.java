@@ -0,0 +1,56 @@
+package com.example.backend.entity.item.details;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 옵션(색상 x 사이즈)별 재고
+ * 옵션별 재고가 등록된 상품은 Item.stock이 옵션 재고의 합계
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_item_variant_stock", columnNames = {"item_id", "color", "size"})
+})
+public class ItemVariantStock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ColorEnum color;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SizeEnum size;
+
+    @Column(nullable = false)
+    private Integer stock;
+}
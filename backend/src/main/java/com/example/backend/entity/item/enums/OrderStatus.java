@@ -0,0 +1,37 @@
+package com.example.backend.entity.item.enums;
+
+public enum OrderStatus {
+    PENDING_PAYMENT("pending"), // 주문 생성, 결제 승인 대기
+    PAID("paid"),               // 결제 완료, 배송 대기
+    SHIPPED("shipping"),        // 배송 중
+    DELIVERED("delivered"),     // 배송 완료
+    CANCELED("cancelled");      // 주문/결제 취소
+
+    // 프론트 주문 상태 코드
+    private final String code;
+
+    OrderStatus(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 허용된 상태 전이
+     * PENDING_PAYMENT -> PAID / CANCELED, PAID -> SHIPPED / CANCELED, SHIPPED -> DELIVERED
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        switch (this) {
+            case PENDING_PAYMENT:
+                return next == PAID || next == CANCELED;
+            case PAID:
+                return next == SHIPPED || next == CANCELED;
+            case SHIPPED:
+                return next == DELIVERED;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.backend.entity.item.enums;
+
+public enum PaymentStatus {
+    REQUESTED,  // 결제 승인 요청 중 (PG 응답 대기 또는 결과 불명)
+    APPROVED,   // 결제 승인 완료
+    FAILED,     // PG가 승인을 거절 (새 paymentKey로 다시 요청 가능)
+    CANCEL_PENDING, // PG 승인 후 재고 확정/주문 전이에 실패해 PG 취소가 필요 (취소 성공까지 스케줄러가 재시도)
+    CANCELED;   // 결제 취소
+
+    /**
+     * 허용된 상태 전이
+     * REQUESTED -> APPROVED / FAILED / CANCEL_PENDING / CANCELED, FAILED -> REQUESTED,
+     * APPROVED -> CANCELED, CANCEL_PENDING -> CANCELED
+     */
+    public boolean canTransitionTo(PaymentStatus next) {
+        switch (this) {
+            case REQUESTED:
+                return next == APPROVED || next == FAILED || next == CANCEL_PENDING || next == CANCELED;
+            case FAILED:
+                return next == REQUESTED;
+            case APPROVED:
+            case CANCEL_PENDING:
+                return next == CANCELED;
+            default:
+                return false;
+        }
+    }
+}
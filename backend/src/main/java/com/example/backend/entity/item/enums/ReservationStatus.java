@@ -0,0 +1,7 @@
+package com.example.backend.entity.item.enums;
+
+public enum ReservationStatus {
+    RESERVED,   // 주문 생성 시 재고 차감, 결제 승인 대기
+    CONFIRMED,  // 결제 승인 완료
+    RELEASED;   // 결제 미승인(만료) 또는 취소로 재고 복구
+}
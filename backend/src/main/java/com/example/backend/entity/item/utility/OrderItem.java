@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.OrderStatus;
 import com.example.backend.entity.item.enums.SizeEnum;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.utility.BaseEntity;
@@ -16,8 +17,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,11 +33,19 @@ import lombok.Value;
 @Getter
 
 @Entity
+@Table(indexes = {
+    // 관리자 상태별 주문 목록 (status = ? order by createdAt, id) - InnoDB 보조 인덱스는 PK(id)를 포함하므로 키셋 조건까지 인덱스로 처리
+    @Index(name = "idx_order_item_status_created", columnList = "status, createdAt")
+})
 public class OrderItem extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 결제(토스페이먼츠) 요청에 사용하는 주문 번호 (OrderNumberGenerator)
+    @Column(unique = true, length = 32)
+    private String orderNumber;
+
     @OneToMany(mappedBy = "orderItem", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItemList> itemList;
 
@@ -52,4 +63,30 @@ public class OrderItem extends BaseEntity {
 
     @Column
     private Integer totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+
+    // 주문 목록용 요약 (주문 시점에 저장 - 목록 조회 시 주문 상품/상품을 읽지 않음)
+    @Column
+    private Integer lineCount;
+
+    @Column
+    private String firstItemTitle;
+
+    @Column
+    private String firstItemImageUrl;
+
+    // 주문 화면(OrderPage)과 같은 배송비 정책
+    private static final int FREE_SHIPPING_THRESHOLD = 50000;
+    private static final int SHIPPING_FEE = 3000;
+
+    /**
+     * 결제 금액 = 상품 합계(totalPrice) + 배송비
+     */
+    public int getPaymentAmount() {
+        int price = totalPrice != null ? totalPrice : 0;
+        return price >= FREE_SHIPPING_THRESHOLD ? price : price + SHIPPING_FEE;
+    }
 }
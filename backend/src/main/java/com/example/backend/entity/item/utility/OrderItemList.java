@@ -12,6 +12,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +26,14 @@ import lombok.NoArgsConstructor;
 @Entity
 public class OrderItemList {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 주문 시 여러 행을 JDBC 배치로 저장할 수 있도록 시퀀스에서 ID를 블록 단위로 미리 할당
+    // 시퀀스 생성 / 기존 행 이후로 이동은 resources/db/order_item_list_seq.sql (배포 전 1회)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String ID_SEQUENCE = "order_item_list_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -43,4 +51,8 @@ public class OrderItemList {
     @Column
     private Integer number;
 
+    // 주문 시점의 판매가 (이후 상품 가격이 바뀌어도 주문 내역은 그대로)
+    @Column
+    private Integer unitPrice;
+
 }
@@ -0,0 +1,121 @@
+package com.example.backend.entity.item.utility;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+import com.example.backend.entity.item.enums.PaymentStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 원장 (주문 1건당 1행)
+ * - 토스 orderId 유니크 키로 중복 승인 요청을 PG 호출 없이 판별
+ * - lockedUntil: 승인 요청을 보내는 중인 요청의 점유 시각, 지나면 결과 불명 결제를 다른 요청이 이어서 처리
+ *   (CANCEL_PENDING이면 PG 취소를 보내는 중인 요청/스케줄러의 점유 시각)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_order_id", columnNames = "orderId"),
+    @UniqueConstraint(name = "uk_payment_payment_key", columnNames = "paymentKey")
+})
+public class Payment {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 토스 주문 번호 (OrderItem.orderNumber)
+    @Column(nullable = false, length = 64)
+    private String orderId;
+
+    @Column(nullable = false, length = 200)
+    private String paymentKey;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_item_id", nullable = false, unique = true)
+    private OrderItem orderItem;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentStatus status;
+
+    @Column(length = 100)
+    private String orderName;
+
+    @Column(length = 50)
+    private String method;
+
+    private OffsetDateTime approvedAt;
+
+    @Column(length = 100)
+    private String failureCode;
+
+    @Column(length = 500)
+    private String failureMessage;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime updatedAt;
+
+    public void approve(String orderName, String method, OffsetDateTime approvedAt) {
+        changeStatus(PaymentStatus.APPROVED);
+        this.orderName = orderName;
+        this.method = method;
+        this.approvedAt = approvedAt;
+        this.lockedUntil = null;
+    }
+
+    public void fail(String failureCode, String failureMessage) {
+        changeStatus(PaymentStatus.FAILED);
+        this.failureCode = failureCode;
+        this.failureMessage = failureMessage;
+        this.lockedUntil = null;
+    }
+
+    /**
+     * PG 취소 요청 전에 기록 - 취소 요청이 실패하거나 서버가 중단되어도 스케줄러가 lockedUntil 이후 다시 취소
+     */
+    public void requestCancel(String failureMessage, LocalDateTime lockedUntil) {
+        changeStatus(PaymentStatus.CANCEL_PENDING);
+        this.failureMessage = failureMessage;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public void cancel() {
+        changeStatus(PaymentStatus.CANCELED);
+        this.lockedUntil = null;
+    }
+
+    private void changeStatus(PaymentStatus next) {
+        if (!status.canTransitionTo(next)) {
+            throw new IllegalStateException("결제 상태를 변경할 수 없습니다: " + status + " -> " + next);
+        }
+        this.status = next;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.entity.item.utility;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.ReservationStatus;
+import com.example.backend.entity.item.enums.SizeEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문별 재고 예약
+ * 주문 생성 시 상품 재고를 미리 차감해 두고, 결제 승인이 만료 시각까지 오지 않으면 재고를 되돌림
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+
+@Entity
+@Table(indexes = {
+    // 만료 예약 정리 조회용
+    @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expiresAt")
+})
+public class StockReservation {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private OrderItem orderItem;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Item item;
+
+    // 옵션별 재고를 차감한 경우에만 값이 있음 (없으면 상품 재고만 차감)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ColorEnum color;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SizeEnum size;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
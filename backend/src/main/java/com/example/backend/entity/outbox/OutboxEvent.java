@@ -0,0 +1,76 @@
+package com.example.backend.entity.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * 주문 등 업무 데이터와 같은 트랜잭션에 후속 작업(알림, 통계 등) 이벤트를 기록하고, 커밋된 이벤트만 디스패처가 비동기로 전달
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+
+@Entity
+@Table(indexes = {
+    // 전달 대상 조회 (status = PENDING and nextAttemptAt <= now)
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, nextAttemptAt"),
+    @Index(name = "idx_outbox_claim_token", columnList = "claimToken")
+})
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 종류 (핸들러 선택 기준, 예: ORDER_PLACED)
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    // 대상 식별자 (예: 주문 ID)
+    @Column(nullable = false, length = 64)
+    private String aggregateId;
+
+    // JSON
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 디스패처가 한 번에 가져간 묶음 식별자 + 점유 만료 시각 (노드가 죽으면 만료 후 다른 노드가 다시 가져감)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,8 @@
+package com.example.backend.entity.outbox;
+
+public enum OutboxStatus {
+    PENDING,     // 전달 대기 (nextAttemptAt 이후 전달)
+    PROCESSING,  // 디스패처가 가져가 전달 중 (lockedUntil까지 다른 노드가 가져가지 않음)
+    DONE,        // 모든 핸들러 처리 완료
+    FAILED;      // 최대 시도 횟수 초과 (수동 확인 필요)
+}
@@ -0,0 +1,31 @@
+package com.example.backend.entity.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 번호 블록 할당 테이블 (HiLo)
+ * 노드는 nextHi를 1 올리면서 이전 값(hi)을 가져가고, [hi * blockSize, (hi + 1) * blockSize) 구간을 DB 접근 없이 메모리에서 발급
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+
+@Entity
+public class NumberSequence {
+
+    // 시퀀스 이름 (예: order_number)
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 다음에 할당할 블록 번호
+    @Column(nullable = false)
+    private Long nextHi;
+}
@@ -0,0 +1,24 @@
+package com.example.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.entity.sequence.NumberSequence;
+
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, String> {
+
+    // 블록 할당 - 행 잠금이 걸리므로 여러 노드가 동시에 요청해도 같은 블록을 받지 않음 (커밋까지 잠금 유지)
+    @Modifying
+    @Query("update NumberSequence s set s.nextHi = s.nextHi + 1 where s.name = :name")
+    int increment(@Param("name") String name);
+
+    // 첫 행 생성 - save(merge)는 이미 있는 행을 덮어쓸 수 있어 insert만 (중복이면 예외)
+    @Modifying
+    @Query(value = "insert into number_sequence (name, next_hi) values (:name, 0)", nativeQuery = true)
+    int create(@Param("name") String name);
+
+    @Query("select s.nextHi from NumberSequence s where s.name = :name")
+    Long findNextHi(@Param("name") String name);
+}
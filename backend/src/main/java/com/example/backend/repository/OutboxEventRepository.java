@@ -0,0 +1,67 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.entity.outbox.OutboxEvent;
+import com.example.backend.entity.outbox.OutboxStatus;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달할 이벤트 ID (대기 중 + 점유가 만료된 전달 중) - 오래된 순
+    @Query("select e.id from OutboxEvent e "
+            + "where (e.status = :pending and e.nextAttemptAt <= :now) "
+            + "or (e.status = :processing and e.lockedUntil < :now) order by e.id")
+    List<Long> findDueIds(@Param("pending") OutboxStatus pending, @Param("processing") OutboxStatus processing,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 점유 - 조회 후 다른 노드가 먼저 가져간 행은 조건이 맞지 않아 제외됨
+    // 점유가 만료된 전달 중 행을 다시 가져가면 시도 횟수 +1 (처리 중 노드 중단/처리 시간 초과도 한 번의 시도)
+    // MariaDB는 SET을 왼쪽부터 적용하므로 attempts를 status보다 먼저 갱신 (변경 전 status로 판단)
+    @Modifying
+    @Query("update OutboxEvent e set "
+            + "e.attempts = case when e.status = :processing then e.attempts + 1 else e.attempts end, "
+            + "e.status = :processing, e.claimToken = :token, e.lockedUntil = :until "
+            + "where e.id in :ids and ((e.status = :pending and e.nextAttemptAt <= :now) "
+            + "or (e.status = :processing and e.lockedUntil < :now))")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("until") LocalDateTime until,
+            @Param("pending") OutboxStatus pending, @Param("processing") OutboxStatus processing,
+            @Param("now") LocalDateTime now);
+
+    List<OutboxEvent> findAllByClaimTokenOrderByIdAsc(String claimToken);
+
+    // 점유가 만료된 전달 중 행 중 이번 만료로 최대 시도 횟수에 도달한 행은 다시 전달하지 않고 FAILED
+    // (전달할 때마다 노드를 중단시키는 이벤트가 계속 재전달되지 않도록)
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.status = :failed, e.lastError = :error, "
+            + "e.claimToken = null, e.lockedUntil = null "
+            + "where e.status = :processing and e.lockedUntil < :now and e.attempts + 1 >= :maxAttempts")
+    int failExpired(@Param("processing") OutboxStatus processing, @Param("failed") OutboxStatus failed,
+            @Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, @Param("error") String error);
+
+    // 결과 기록 - 점유한 묶음(token)일 때만 (점유 만료 후 다른 노드가 가져갔으면 무시)
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :done, e.processedAt = :now, e.claimToken = null, e.lockedUntil = null "
+            + "where e.id = :id and e.claimToken = :token")
+    int markDone(@Param("id") Long id, @Param("token") String token, @Param("done") OutboxStatus done,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :error, e.claimToken = null, e.lockedUntil = null "
+            + "where e.id = :id and e.claimToken = :token")
+    int markFailed(@Param("id") Long id, @Param("token") String token, @Param("status") OutboxStatus status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    // 보관 기간이 지난 완료 이벤트 정리
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :done and e.processedAt < :before")
+    int deleteProcessedBefore(@Param("done") OutboxStatus done, @Param("before") LocalDateTime before);
+}
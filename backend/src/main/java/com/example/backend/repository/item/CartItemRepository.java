@@ -1,9 +1,14 @@
 package com.example.backend.repository.item;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.utility.CartItem;
@@ -11,7 +16,16 @@ import com.example.backend.entity.user.User;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long>, JpaSpecificationExecutor<CartItem> {
     boolean existsByItemAndUser(Item item, User user);
-    void deleteByItemAndUser(Item item, User user);
+    boolean existsByItemIdAndUser(Long itemId, User user);
+    long deleteByItemAndUser(Item item, User user);
     List<CartItem> findAllByUser(User user);
-    void deleteAllByUser(User user);
+
+    // 주문 완료 후 장바구니 비우기 - 행마다 조회/삭제하지 않고 한 문장으로 삭제
+    @Modifying
+    @Query("delete from CartItem c where c.user = :user")
+    int deleteAllInBulkByUser(@Param("user") User user);
+
+    // 목록 페이지의 아이템 ID 중 사용자의 장바구니에 담긴 ID만 한 번에 조회
+    @Query("select distinct c.item.id from CartItem c where c.user = :user and c.item.id in :itemIds")
+    Set<Long> findItemIdsByUserAndItemIdIn(@Param("user") User user, @Param("itemIds") Collection<Long> itemIds);
 }
@@ -1,10 +1,27 @@
 package com.example.backend.repository.item;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.backend.dto.item.ItemColorRow;
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.details.Color;
 
 public interface ColorRepostitory extends JpaRepository<Color, Long> {
     void deleteByItem(Item item);
+
+    // 패싯 인덱스 빌드용
+    @Query("select new com.example.backend.dto.item.ItemColorRow(c.item.id, c.color) from Color c")
+    List<ItemColorRow> findAllColorRows();
+
+    @Query("select new com.example.backend.dto.item.ItemColorRow(c.item.id, c.color) from Color c where c.item.id = :itemId")
+    List<ItemColorRow> findColorRowsByItemId(@Param("itemId") Long itemId);
+
+    // 상품 카드 목록의 색상을 페이지 단위로 한 번에 조회
+    @Query("select new com.example.backend.dto.item.ItemColorRow(c.item.id, c.color) from Color c where c.item.id in :itemIds")
+    List<ItemColorRow> findColorRowsByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
 }
@@ -1,9 +1,13 @@
 package com.example.backend.repository.item;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.utility.FavoriteItem;
@@ -11,5 +15,11 @@ import com.example.backend.entity.user.User;
 
 public interface FavoriteItemRepository extends JpaRepository<FavoriteItem, Long>, JpaSpecificationExecutor<FavoriteItem> {
     boolean existsByItemAndUser(Item item, User user);
+    boolean existsByItemIdAndUser(Long itemId, User user);
     Optional<FavoriteItem> findByItemAndUser(Item item, User user);
+    long deleteByItemAndUser(Item item, User user);
+
+    // 목록 페이지의 아이템 ID 중 사용자가 즐겨찾기한 ID만 한 번에 조회
+    @Query("select f.item.id from FavoriteItem f where f.user = :user and f.item.id in :itemIds")
+    Set<Long> findItemIdsByUserAndItemIdIn(@Param("user") User user, @Param("itemIds") Collection<Long> itemIds);
 }
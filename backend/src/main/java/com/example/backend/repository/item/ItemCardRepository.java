@@ -0,0 +1,21 @@
+package com.example.backend.repository.item;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.backend.dto.item.ItemCardRow;
+import com.example.backend.entity.item.Item;
+
+/**
+ * 상품 카드 프로젝션 조회 (Specification 필터를 그대로 사용)
+ */
+public interface ItemCardRepository {
+
+    Page<ItemCardRow> findCards(Specification<Item> spec, Pageable pageable);
+
+    List<ItemCardRow> findCards(Specification<Item> spec, Sort sort, int limit);
+}
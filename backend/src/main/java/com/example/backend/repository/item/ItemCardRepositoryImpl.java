@@ -0,0 +1,83 @@
+package com.example.backend.repository.item;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.backend.dto.item.ItemCardRow;
+import com.example.backend.entity.item.Item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class ItemCardRepositoryImpl implements ItemCardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ItemCardRow> findCards(Specification<Item> spec, Pageable pageable) {
+        TypedQuery<ItemCardRow> query = createCardQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ItemCardRow> findCards(Specification<Item> spec, Sort sort, int limit) {
+        return createCardQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<ItemCardRow> createCardQuery(Specification<Item> spec, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ItemCardRow> query = builder.createQuery(ItemCardRow.class);
+        Root<Item> root = query.from(Item.class);
+
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(builder.construct(ItemCardRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("brand"),
+                root.get("price"),
+                root.get("discountPercent"),
+                root.get("realPrice"),
+                root.get("mainImageUrl"),
+                root.get("likeCount"),
+                root.get("cartCount"),
+                root.get("reviewCount"),
+                root.get("reviewScoreSum"),
+                root.get("stock")));
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Item> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Item> root = query.from(Item.class);
+
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(builder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,9 +1,117 @@
 package com.example.backend.repository.item;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.backend.dto.item.ItemFacetDocument;
+import com.example.backend.dto.item.ItemSearchDocument;
+import com.example.backend.dto.item.ItemStockRow;
 import com.example.backend.entity.item.Item;
+import com.example.backend.entity.user.User;
+
+public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item>, ItemCardRepository {
+
+    // 리뷰 수/점수 합계를 단일 UPDATE로 증감 (동시 요청에도 갱신 유실 없음)
+    @Modifying
+    @Query("update Item i set i.reviewCount = coalesce(i.reviewCount, 0) + :countDelta, "
+            + "i.reviewScoreSum = coalesce(i.reviewScoreSum, 0) + :scoreDelta where i.id = :itemId")
+    int addReviewStats(@Param("itemId") Long itemId, @Param("countDelta") int countDelta, @Param("scoreDelta") int scoreDelta);
+
+    // 장바구니 수를 단일 UPDATE로 증감
+    @Modifying
+    @Query("update Item i set i.cartCount = coalesce(i.cartCount, 0) + :delta where i.id = :itemId")
+    int addCartCount(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    // 주문으로 비워질 장바구니 행 수만큼 상품별 장바구니 수 차감 (장바구니 삭제 전에 실행)
+    @Modifying
+    @Query("update Item i set i.cartCount = coalesce(i.cartCount, 0) - "
+            + "(select count(c) from CartItem c where c.item = i and c.user = :user) "
+            + "where i.id in (select c.item.id from CartItem c where c.user = :user)")
+    int subtractCartCountsByUser(@Param("user") User user);
+
+    // 재고 차감 - 남은 재고가 충분할 때만 차감 (0건이면 재고 부족)
+    @Modifying
+    @Query("update Item i set i.stock = i.stock - :quantity where i.id = :itemId and i.stock >= :quantity")
+    int decreaseStock(@Param("itemId") Long itemId, @Param("quantity") int quantity);
+
+    // 재고가 비어 있는 상품 수 (재고 관리 도입 전에 저장된 상품)
+    @Query("select count(i) from Item i where i.stock is null")
+    long countMissingStock();
+
+    // 비어 있는 재고를 옵션 재고 합계로 채움, 옵션 재고가 없으면 0 (목록/재고 캐시가 이미 품절로 보여주던 값)
+    // 채운 뒤에는 decreaseStock의 stock >= n 조건이 NULL 때문에 항상 실패하는 일이 없음
+    @Modifying
+    @Query("update Item i set i.stock = coalesce((select sum(v.stock) from ItemVariantStock v where v.item = i), 0) "
+            + "where i.stock is null")
+    int fillMissingStock();
+
+    // 재고 복구 (예약 만료/취소)
+    @Modifying
+    @Query("update Item i set i.stock = coalesce(i.stock, 0) + :quantity where i.id = :itemId")
+    int increaseStock(@Param("itemId") Long itemId, @Param("quantity") int quantity);
+
+    // 관리자 재고 수정 - 차이만큼 증감 (그 사이 주문/예약으로 차감된 수량 유지), 0 미만이면 0
+    @Modifying
+    @Query("update Item i set i.stock = case when coalesce(i.stock, 0) + :delta < 0 then 0 "
+            + "else coalesce(i.stock, 0) + :delta end where i.id = :itemId")
+    int addStock(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    // 옵션 재고를 처음 등록할 때 상품 재고 = 옵션 재고 합계 - 결제 대기(RESERVED) 수량
+    // 결제 대기 수량은 만료/취소 시 increaseStock으로 다시 더해지므로 미리 빼 둠
+    @Modifying
+    @Query("update Item i set i.stock = case when :stock - (select coalesce(sum(r.quantity), 0) from StockReservation r "
+            + "where r.item = i and r.status = com.example.backend.entity.item.enums.ReservationStatus.RESERVED) < 0 then 0 "
+            + "else :stock - (select coalesce(sum(r.quantity), 0) from StockReservation r "
+            + "where r.item = i and r.status = com.example.backend.entity.item.enums.ReservationStatus.RESERVED) end "
+            + "where i.id = :itemId")
+    int resetStockExcludingReserved(@Param("itemId") Long itemId, @Param("stock") int stock);
+
+    // 좋아요 수 증감 - 읽고 쓰지 않고 한 문장으로 갱신 (동시 요청에도 유실 없음)
+    @Modifying
+    @Query("update Item i set i.likeCount = case when coalesce(i.likeCount, 0) + :delta < 0 then 0 "
+            + "else coalesce(i.likeCount, 0) + :delta end where i.id = :itemId")
+    int addLikeCount(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    // 집계 컬럼이 비어 있는 상품 수 (컬럼 추가 전에 저장된 상품)
+    @Query("select count(i) from Item i where i.reviewCount is null or i.reviewScoreSum is null "
+            + "or i.cartCount is null or i.likeCount is null")
+    long countMissingAggregates();
+
+    // 비어 있는 집계 컬럼만 리뷰/장바구니/즐겨찾기 테이블 기준으로 채움 (기존 데이터 1회 보정용)
+    // 이미 값이 있는 컬럼은 건드리지 않음 -> 다른 노드가 아직 반영하지 않은 증감분(ItemLikeCountBuffer)과 겹치지 않음
+    @Modifying
+    @Query("update Item i set "
+            + "i.reviewCount = coalesce(i.reviewCount, (select count(r) from Review r where r.item = i)), "
+            + "i.reviewScoreSum = coalesce(i.reviewScoreSum, (select coalesce(sum(r.score), 0) from Review r where r.item = i)), "
+            + "i.cartCount = coalesce(i.cartCount, (select count(c) from CartItem c where c.item = i)), "
+            + "i.likeCount = coalesce(i.likeCount, (select count(f) from FavoriteItem f where f.item = i)) "
+            + "where i.reviewCount is null or i.reviewScoreSum is null or i.cartCount is null or i.likeCount is null")
+    int syncMissingAggregates();
+
+    // 재고 캐시 빌드용 - 상품 단위 재고
+    @Query("select new com.example.backend.dto.item.ItemStockRow(i.id, i.stock) from Item i")
+    List<ItemStockRow> findAllStockRows();
+
+    @Query("select new com.example.backend.dto.item.ItemStockRow(i.id, i.stock) from Item i where i.id = :itemId")
+    Optional<ItemStockRow> findStockRowById(@Param("itemId") Long itemId);
+
+    // 검색 인덱스 빌드용 - 검색 대상 컬럼만 조회
+    @Query("select new com.example.backend.dto.item.ItemSearchDocument(i.id, i.title, i.brand, i.description) from Item i")
+    List<ItemSearchDocument> findAllSearchDocuments();
+
+    @Query("select new com.example.backend.dto.item.ItemSearchDocument(i.id, i.title, i.brand, i.description) from Item i where i.id = :itemId")
+    Optional<ItemSearchDocument> findSearchDocumentById(@Param("itemId") Long itemId);
+
+    // 패싯 인덱스 빌드용 - 카테고리/판매가만 조회
+    @Query("select new com.example.backend.dto.item.ItemFacetDocument(i.id, i.majorCategory, i.middleCategory, i.subcategory, i.realPrice) from Item i")
+    List<ItemFacetDocument> findAllFacetDocuments();
 
-public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item> {
+    @Query("select new com.example.backend.dto.item.ItemFacetDocument(i.id, i.majorCategory, i.middleCategory, i.subcategory, i.realPrice) from Item i where i.id = :itemId")
+    Optional<ItemFacetDocument> findFacetDocumentById(@Param("itemId") Long itemId);
 }
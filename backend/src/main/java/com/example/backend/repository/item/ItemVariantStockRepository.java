@@ -0,0 +1,48 @@
+package com.example.backend.repository.item;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.dto.item.ItemVariantStockRow;
+import com.example.backend.entity.item.details.ItemVariantStock;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+
+public interface ItemVariantStockRepository extends JpaRepository<ItemVariantStock, Long> {
+
+    @Modifying
+    @Query("delete from ItemVariantStock v where v.item.id = :itemId")
+    int deleteByItemId(@Param("itemId") Long itemId);
+
+    // 재고 캐시 빌드용
+    @Query("select new com.example.backend.dto.item.ItemVariantStockRow(v.item.id, v.color, v.size, v.stock) from ItemVariantStock v")
+    List<ItemVariantStockRow> findAllStockRows();
+
+    @Query("select new com.example.backend.dto.item.ItemVariantStockRow(v.item.id, v.color, v.size, v.stock) "
+            + "from ItemVariantStock v where v.item.id = :itemId")
+    List<ItemVariantStockRow> findStockRowsByItemId(@Param("itemId") Long itemId);
+
+    // 옵션 재고 합계 (관리자 재고 수정 시 기존 합계와의 차이 계산용)
+    @Query("select coalesce(sum(v.stock), 0) from ItemVariantStock v where v.item.id = :itemId")
+    long sumStockByItemId(@Param("itemId") Long itemId);
+
+    // 옵션별 재고를 관리하는 상품인지 (옵션 재고 차감 0건이면 재고 부족인지 옵션 재고가 없는 상품인지 구분)
+    boolean existsByItemId(Long itemId);
+
+    // 옵션 재고 차감 - 남은 재고가 충분할 때만 (0건이면 재고 부족 또는 옵션 없음)
+    @Modifying
+    @Query("update ItemVariantStock v set v.stock = v.stock - :quantity "
+            + "where v.item.id = :itemId and v.color = :color and v.size = :size and v.stock >= :quantity")
+    int decreaseStock(@Param("itemId") Long itemId, @Param("color") ColorEnum color, @Param("size") SizeEnum size,
+            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update ItemVariantStock v set v.stock = v.stock + :quantity "
+            + "where v.item.id = :itemId and v.color = :color and v.size = :size")
+    int increaseStock(@Param("itemId") Long itemId, @Param("color") ColorEnum color, @Param("size") SizeEnum size,
+            @Param("quantity") int quantity);
+}
@@ -1,11 +1,21 @@
 package com.example.backend.repository.item;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.backend.dto.order.OrderLineRow;
 import com.example.backend.entity.item.utility.OrderItemList;
 
 @Repository
 public interface OrderItemListRepository extends JpaRepository<OrderItemList, Long>{
-    
+
+    // 주문 상세 - 주문 상품 + 상품 필요한 컬럼만 (엔티티/연관 로딩 없음)
+    @Query("select new com.example.backend.dto.order.OrderLineRow("
+            + "i.id, i.title, i.mainImageUrl, coalesce(l.unitPrice, i.realPrice), l.number, l.color, l.size) "
+            + "from OrderItemList l join l.item i where l.orderItem.id = :orderId order by l.id")
+    List<OrderLineRow> findLinesByOrderId(@Param("orderId") Long orderId);
 }
@@ -1,15 +1,91 @@
 package com.example.backend.repository.item;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.backend.dto.order.AdminOrderRow;
+import com.example.backend.dto.order.OrderSummaryRow;
+import com.example.backend.entity.item.enums.OrderStatus;
+import com.example.backend.entity.item.enums.PaymentStatus;
 import com.example.backend.entity.item.utility.OrderItem;
 import com.example.backend.entity.user.User;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByUserOrderByIdDesc(User user);
     Page<OrderItem> findByUserOrderByIdDesc(User user, Pageable pageable);
+    Optional<OrderItem> findByOrderNumber(String orderNumber);
+
+    // 주문 목록 - 요약 컬럼만 조회 (주문 상품/상품 로딩 없음)
+    @Query(value = "select new com.example.backend.dto.order.OrderSummaryRow("
+            + "o.id, o.totalPrice, o.lineCount, o.firstItemTitle, o.firstItemImageUrl, o.status, o.createdAt) "
+            + "from OrderItem o where o.user = :user order by o.id desc",
+            countQuery = "select count(o) from OrderItem o where o.user = :user")
+    Page<OrderSummaryRow> findSummariesByUser(@Param("user") User user, Pageable pageable);
+
+    // 요약 컬럼이 비어 있는 주문 수 (보정할 주문이 없으면 UPDATE 생략)
+    @Query("select count(o) from OrderItem o where o.lineCount is null")
+    long countMissingSummaries();
+
+    // 요약 컬럼이 없는 기존 주문 보정 (첫 번째 주문 상품 = 가장 작은 id)
+    @Modifying
+    @Query("update OrderItem o set "
+            + "o.lineCount = (select count(l) from OrderItemList l where l.orderItem = o), "
+            + "o.firstItemTitle = (select l.item.title from OrderItemList l where l.orderItem = o "
+            + "and l.id = (select min(l2.id) from OrderItemList l2 where l2.orderItem = o)), "
+            + "o.firstItemImageUrl = (select l.item.mainImageUrl from OrderItemList l where l.orderItem = o "
+            + "and l.id = (select min(l2.id) from OrderItemList l2 where l2.orderItem = o)) "
+            + "where o.lineCount is null")
+    int syncSummaries();
+
+    // 관리자 상태별 주문 목록 - (status, createdAt) 인덱스 순서대로 읽는 키셋 페이지 (첫 페이지)
+    @Query("select new com.example.backend.dto.order.AdminOrderRow("
+            + "o.id, o.status, o.totalPrice, o.lineCount, o.firstItemTitle, o.addr, o.zipcode, o.call, o.createdAt) "
+            + "from OrderItem o where o.status = :status "
+            + "order by o.createdAt asc, o.id asc")
+    List<AdminOrderRow> findAdminRows(@Param("status") OrderStatus status, Pageable pageable);
+
+    // 다음 페이지 - 마지막으로 내려준 (createdAt, id) 이후부터 (OFFSET 없이 인덱스 seek)
+    @Query("select new com.example.backend.dto.order.AdminOrderRow("
+            + "o.id, o.status, o.totalPrice, o.lineCount, o.firstItemTitle, o.addr, o.zipcode, o.call, o.createdAt) "
+            + "from OrderItem o where o.status = :status "
+            + "and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id)) "
+            + "order by o.createdAt asc, o.id asc")
+    List<AdminOrderRow> findAdminRowsAfter(@Param("status") OrderStatus status,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 상태 전이 - 현재 상태가 from일 때만 변경 (동시 요청 중 하나만 성공)
+    // 같은 트랜잭션의 결제 원장/재고 변경이 사라지지 않도록 clear 대신 flush만
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderItem o set o.status = :to where o.id = :id and o.status = :from")
+    int changeStatus(@Param("id") Long id, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
+    // 상태/생성 시각이 비어 있는 주문 수 (보정할 주문이 없으면 UPDATE 생략)
+    @Query("select count(o) from OrderItem o where o.status is null")
+    long countMissingStatus();
+
+    @Query("select count(o) from OrderItem o where o.createdAt is null")
+    long countMissingCreatedAt();
+
+    // 상태가 없는 기존 주문 보정 - 결제 원장 상태 기준
+    @Modifying
+    @Query("update OrderItem o set o.status = :to where o.status is null "
+            + "and exists (select p from Payment p where p.orderItem = o and p.status = :paymentStatus)")
+    int syncStatusFromPayment(@Param("paymentStatus") PaymentStatus paymentStatus, @Param("to") OrderStatus to);
+
+    @Modifying
+    @Query("update OrderItem o set o.status = :to where o.status is null")
+    int fillMissingStatus(@Param("to") OrderStatus to);
+
+    // 생성 시각이 없는 기존 주문 보정 (JPA Auditing 적용 전 저장된 행)
+    @Modifying
+    @Query("update OrderItem o set o.createdAt = :now where o.createdAt is null")
+    int fillMissingCreatedAt(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,46 @@
+package com.example.backend.repository.item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.entity.item.enums.PaymentStatus;
+import com.example.backend.entity.item.utility.Payment;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    Optional<Payment> findByOrderId(String orderId);
+
+    Optional<Payment> findByPaymentKey(String paymentKey);
+
+    // PG 취소 재시도 대상 (CANCEL_PENDING) - 점유 시각이 지난 결제만
+    @Query("select p from Payment p where p.status = :status and (p.lockedUntil is null or p.lockedUntil < :now) order by p.id")
+    List<Payment> findUnlocked(@Param("status") PaymentStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 결과 불명(REQUESTED) / 취소 대기(CANCEL_PENDING) 결제 점유 - 점유 시각이 지났을 때만 성공 (동시에 들어온 중복 요청 중 하나만 PG 호출)
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.lockedUntil = :until "
+            + "where p.id = :id and p.status = :status and (p.lockedUntil is null or p.lockedUntil < :now)")
+    int acquireLock(@Param("id") Long id, @Param("status") PaymentStatus status,
+            @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 승인 거절(FAILED) 결제를 새 paymentKey로 다시 요청 (FAILED -> REQUESTED)
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.example.backend.entity.item.enums.PaymentStatus.REQUESTED, "
+            + "p.paymentKey = :paymentKey, p.failureCode = null, p.failureMessage = null, "
+            + "p.lockedUntil = :until, p.requestedAt = :now, p.updatedAt = :now "
+            + "where p.id = :id and p.status = com.example.backend.entity.item.enums.PaymentStatus.FAILED")
+    int retryFailed(@Param("id") Long id, @Param("paymentKey") String paymentKey,
+            @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // PG 결과를 알 수 없는 채로 끝난 요청 - 같은 멱등키로 바로 다시 시도할 수 있게 점유 해제
+    @Modifying
+    @Query("update Payment p set p.lockedUntil = null where p.orderId = :orderId and p.status = :status")
+    int releaseLock(@Param("orderId") String orderId, @Param("status") PaymentStatus status);
+}
@@ -1,10 +1,27 @@
 package com.example.backend.repository.item;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.backend.dto.item.ItemSizeRow;
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.details.Size;
 
 public interface SizeRepository extends JpaRepository<Size, Long> {
     void deleteByItem(Item item);
+
+    // 패싯 인덱스 빌드용
+    @Query("select new com.example.backend.dto.item.ItemSizeRow(s.item.id, s.size) from Size s")
+    List<ItemSizeRow> findAllSizeRows();
+
+    @Query("select new com.example.backend.dto.item.ItemSizeRow(s.item.id, s.size) from Size s where s.item.id = :itemId")
+    List<ItemSizeRow> findSizeRowsByItemId(@Param("itemId") Long itemId);
+
+    // 상품 카드 목록의 사이즈를 페이지 단위로 한 번에 조회
+    @Query("select new com.example.backend.dto.item.ItemSizeRow(s.item.id, s.size) from Size s where s.item.id in :itemIds")
+    List<ItemSizeRow> findSizeRowsByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
 }
@@ -0,0 +1,29 @@
+package com.example.backend.repository.item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.entity.item.enums.ReservationStatus;
+import com.example.backend.entity.item.utility.StockReservation;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    @Query("select r from StockReservation r join fetch r.item where r.orderItem.id = :orderId")
+    List<StockReservation> findAllByOrderId(@Param("orderId") Long orderId);
+
+    // 만료된 예약 조회 (정리 배치)
+    @Query("select r from StockReservation r join fetch r.item "
+            + "where r.status = :status and r.expiresAt < :now order by r.id")
+    List<StockReservation> findExpired(@Param("status") ReservationStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 상태 전이 - from 상태일 때만 변경 (여러 서버/요청이 동시에 처리해도 한 번만 성공)
+    @Modifying
+    @Query("update StockReservation r set r.status = :to where r.id = :id and r.status = :from")
+    int changeStatus(@Param("id") Long id, @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+}
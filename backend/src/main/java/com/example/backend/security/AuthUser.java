@@ -0,0 +1,12 @@
+package com.example.backend.security;
+
+/**
+ * JWT Claims로 만든 인증 사용자 정보 (SecurityContext principal)
+ * - 요청마다 users 테이블을 조회하지 않고 토큰에 담긴 값만 사용
+ */
+public record AuthUser(Long userId, String email, String role) {
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+}
@@ -4,6 +4,7 @@ package com.example.backend.security;
 // [종혁 코드] - 원본 그대로 복사
 // =====================================================
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -33,15 +34,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserId(token);
-            String email = jwtTokenProvider.getEmail(token);
-            String role = jwtTokenProvider.getRole(token);
+        // 토큰 검증은 요청당 한 번만 (결과 Claims에서 사용자 정보 추출)
+        Claims claims = token != null ? jwtTokenProvider.getValidClaims(token) : null;
+
+        if (claims != null) {
+            Long userId = jwtTokenProvider.getUserId(claims);
+            String email = jwtTokenProvider.getEmail(claims);
+            String role = jwtTokenProvider.getRole(claims);
 
             // 인증 객체 생성
             UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
-                    userId,  // principal (사용자 ID)
+                    new AuthUser(userId, email, role),  // principal (토큰의 사용자 정보)
                     null,    // credentials
                     List.of(new SimpleGrantedAuthority("ROLE_" + role))
                 );
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
@@ -26,12 +28,31 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity:604800000}") // 7일 (밀리초)
     private long refreshTokenValidity;
 
+    // 검증된 Claims 캐시 최대 개수
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
     private SecretKey key;
 
+    // 스레드 안전한 파서 - 매 호출마다 새로 만들지 않고 재사용
+    private JwtParser parser;
+
+    // 토큰 문자열 -> 서명 검증이 끝난 Claims (LRU, 만료 시각이 지나면 사용하지 않음)
+    private Map<String, Claims> claimsCache;
+
     @PostConstruct
     protected void init() {
         String encodedKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         this.key = Keys.hmacShaKeyFor(encodedKey.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.claimsCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        };
     }
 
     // Access Token 생성
@@ -64,35 +85,72 @@ public class JwtTokenProvider {
 
     // 토큰에서 사용자 ID 추출
     public Long getUserId(String token) {
-        return Long.parseLong(getClaims(token).getSubject());
+        return getUserId(getClaims(token));
+    }
+
+    public Long getUserId(Claims claims) {
+        return Long.parseLong(claims.getSubject());
     }
 
     // 토큰에서 이메일 추출
     public String getEmail(String token) {
-        return getClaims(token).get("email", String.class);
+        return getEmail(getClaims(token));
+    }
+
+    public String getEmail(Claims claims) {
+        return claims.get("email", String.class);
     }
 
     // 토큰에서 역할 추출
     public String getRole(String token) {
-        return getClaims(token).get("role", String.class);
+        return getRole(getClaims(token));
+    }
+
+    public String getRole(Claims claims) {
+        return claims.get("role", String.class);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 Claims 반환 (필터에서 사용)
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Claims getValidClaims(String token) {
         try {
-            getClaims(token);
-            return true;
+            return getClaims(token);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
-    // Claims 추출
+    // Claims 추출 - 같은 토큰은 만료 전까지 캐시된 검증 결과 사용
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims cached;
+        synchronized (claimsCache) {
+            cached = claimsCache.get(token);
+        }
+        if (cached != null) {
+            Date expiration = cached.getExpiration();
+            if (expiration != null && expiration.after(new Date())) {
+                return cached;
+            }
+            synchronized (claimsCache) {
+                claimsCache.remove(token);
+            }
+        }
+
+        // 서명/만료 검증 실패 시 예외 (캐시에 넣지 않음)
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            synchronized (claimsCache) {
+                claimsCache.put(token, claims);
+            }
+        }
+        return claims;
     }
 }
@@ -5,7 +5,6 @@ import com.example.backend.dto.address.AddressResponse;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.user.details.Address;
 import com.example.backend.repository.AddressRepository;
-import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,15 +17,11 @@ import java.util.stream.Collectors;
 public class AddressService {
 
     private final AddressRepository addressRepository;
-    private final UserRepository userRepository;
 
     // 내 배송지 목록 조회
     @Transactional(readOnly = true)
     public List<AddressResponse> getMyAddresses(User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        List<Address> addresses = addressRepository.findByUserOrderByIsDefaultDescAddrNoDesc(savedUser);
+        List<Address> addresses = addressRepository.findByUserOrderByIsDefaultDescAddrNoDesc(user);
 
         return addresses.stream()
                 .map(AddressResponse::fromEntity)
@@ -36,10 +31,8 @@ public class AddressService {
     // 배송지 추가
     @Transactional
     public void addAddress(AddressRequest request, User user) throws Exception {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         // 배송지 개수 제한 (최대 3개)
-        long addressCount = addressRepository.countByUser(savedUser);
+        long addressCount = addressRepository.countByUser(user);
         if (addressCount >= 3) {
             throw new IllegalAccessException("배송지는 최대 3개까지 등록할 수 있습니다.");
         }
@@ -48,7 +41,7 @@ public class AddressService {
         boolean isFirstAddress = addressCount == 0;
 
         Address address = Address.builder()
-                .user(savedUser)
+                .user(user)
                 .addrName(request.getAddrName())
                 .receiverName(request.getReceiverName())
                 .receiverPhone(request.getReceiverPhone())
@@ -64,10 +57,7 @@ public class AddressService {
     // 배송지 수정
     @Transactional
     public void updateAddress(Long addrNo, AddressRequest request, User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Address address = addressRepository.findByAddrNoAndUser(addrNo, savedUser)
+        Address address = addressRepository.findByAddrNoAndUser(addrNo, user)
                 .orElseThrow(() -> new RuntimeException("배송지를 찾을 수 없습니다."));
 
         address.update(
@@ -83,10 +73,7 @@ public class AddressService {
     // 배송지 삭제
     @Transactional
     public void deleteAddress(Long addrNo, User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Address address = addressRepository.findByAddrNoAndUser(addrNo, savedUser)
+        Address address = addressRepository.findByAddrNoAndUser(addrNo, user)
                 .orElseThrow(() -> new RuntimeException("배송지를 찾을 수 없습니다."));
 
         boolean wasDefault = "Y".equals(address.getIsDefault());
@@ -95,7 +82,7 @@ public class AddressService {
 
         // 삭제된 배송지가 기본 배송지였으면 다른 배송지를 기본으로 설정
         if (wasDefault) {
-            List<Address> remainingAddresses = addressRepository.findByUserOrderByIsDefaultDescAddrNoDesc(savedUser);
+            List<Address> remainingAddresses = addressRepository.findByUserOrderByIsDefaultDescAddrNoDesc(user);
             if (!remainingAddresses.isEmpty()) {
                 remainingAddresses.get(0).setAsDefault();
             }
@@ -105,14 +92,11 @@ public class AddressService {
     // 기본 배송지 설정
     @Transactional
     public void setDefaultAddress(Long addrNo, User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Address address = addressRepository.findByAddrNoAndUser(addrNo, savedUser)
+        Address address = addressRepository.findByAddrNoAndUser(addrNo, user)
                 .orElseThrow(() -> new RuntimeException("배송지를 찾을 수 없습니다."));
 
         // 기존 기본 배송지 해제
-        addressRepository.clearDefaultByUser(savedUser);
+        addressRepository.clearDefaultByUser(user);
 
         // 새 기본 배송지 설정
         address.setAsDefault();
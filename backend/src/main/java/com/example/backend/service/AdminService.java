@@ -5,18 +5,23 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.backend.dto.admin.ItemResistraionRequest;
+import com.example.backend.dto.admin.ItemVariantStockRequest;
 import com.example.backend.entity.item.Item;
 import com.example.backend.entity.item.details.Color;
 import com.example.backend.entity.item.details.ItemImage;
+import com.example.backend.entity.item.details.ItemVariantStock;
 import com.example.backend.entity.item.details.Size;
 import com.example.backend.entity.item.enums.ColorEnum;
 import com.example.backend.entity.item.enums.MajorCategoryEnum;
@@ -26,7 +31,9 @@ import com.example.backend.entity.item.enums.SubcategoryEnum;
 import com.example.backend.repository.item.ColorRepostitory;
 import com.example.backend.repository.item.ItemImageRepository;
 import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.ItemVariantStockRepository;
 import com.example.backend.repository.item.SizeRepository;
+import com.example.backend.service.event.ItemChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +52,8 @@ public class AdminService {
     private final ColorRepostitory colorRepository;
     private final SizeRepository sizeRepository;
     private final ItemImageRepository itemImageRepository;
+    private final ItemVariantStockRepository itemVariantStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private void saveColors(List<String> colorList, Item item) {
         colorRepository.deleteByItem(item);
@@ -197,11 +206,13 @@ public class AdminService {
                 .middleCategory(middleCategory)
                 .subcategory(subcategory)
                 .build();
+        item.setRealPrice(item.calculateRealPrice());
 
         itemRepository.save(item);
         saveColors(colorList, item);
         saveSizes(sizeList, item);
         saveImages(imageList, item);
+        eventPublisher.publishEvent(ItemChangedEvent.catalog(item.getId()));
     }
 
     public void updateItem(Long itemId, ItemResistraionRequest dto, MultipartFile mainImage, List<MultipartFile> images) throws IOException {
@@ -229,11 +240,54 @@ public class AdminService {
             imageList = dto.getImageList();
         }
 
+        // 옵션별 재고를 관리하는 상품은 상품 재고(합계)를 직접 수정하지 않음
+        if (itemVariantStockRepository.existsByItemId(itemId)) {
+            dto.setStock(null);
+        }
         item.update(dto);
         saveColors(colorList, item);
         saveSizes(sizeList, item);
         saveImages(imageList, item);
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.catalog(item.getId()));
+    }
+
+    /**
+     * 옵션(색상 x 사이즈)별 재고 설정
+     * 기존 옵션 재고를 모두 교체하고 상품 재고는 옵션 재고 합계가 바뀐 만큼만 증감, 빈 목록이면 옵션별 재고 관리 해제
+     * - 상품 재고를 합계로 덮어쓰면 옵션 없이 주문/예약된 수량까지 되살아나 초과 판매될 수 있음
+     * - 옵션 재고가 없던 상품은 합계에서 결제 대기 수량을 뺀 값으로 시작
+     */
+    public void updateVariantStocks(Long itemId, List<ItemVariantStockRequest> stocks) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Item not found"));
+        boolean hadVariants = itemVariantStockRepository.existsByItemId(itemId);
+        long previousSum = itemVariantStockRepository.sumStockByItemId(itemId);
+        itemVariantStockRepository.deleteByItemId(itemId);
+
+        if (stocks != null && !stocks.isEmpty()) {
+            // 같은 옵션이 여러 번 오면 마지막 값 사용
+            Map<String, ItemVariantStock> variants = new LinkedHashMap<>();
+            for (ItemVariantStockRequest request : stocks) {
+                ColorEnum color = ColorEnum.valueOf(request.getColor());
+                SizeEnum size = SizeEnum.valueOf(request.getSize());
+                int stock = request.getStock() != null ? Math.max(request.getStock(), 0) : 0;
+                variants.put(color + "/" + size, ItemVariantStock.builder()
+                        .item(item)
+                        .color(color)
+                        .size(size)
+                        .stock(stock)
+                        .build());
+            }
+            itemVariantStockRepository.saveAll(variants.values());
+            int sum = variants.values().stream().mapToInt(ItemVariantStock::getStock).sum();
+            if (hadVariants) {
+                itemRepository.addStock(itemId, (int) (sum - previousSum));
+            } else {
+                itemRepository.resetStockExcludingReserved(itemId, sum);
+            }
+        }
+        eventPublisher.publishEvent(ItemChangedEvent.stats(itemId));
     }
 
     public void deleteItem(Long itemId) {
@@ -241,6 +295,8 @@ public class AdminService {
         // 삭제 전 연관된 Color, Size, Image 등도 함께 삭제해야 데이터 무결성 보장 가능
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
+        itemVariantStockRepository.deleteByItemId(itemId);
         itemRepository.delete(item);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId));
     }
 }
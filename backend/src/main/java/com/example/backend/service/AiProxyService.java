@@ -2,45 +2,89 @@ package com.example.backend.service;
 
 import com.example.backend.dto.AiProxyRequest;
 import com.example.backend.dto.AiProxyResponse;
+import com.example.backend.service.cache.SupportAnswerCache;
+import com.example.backend.service.ratelimit.Bulkhead;
+import com.example.backend.service.ratelimit.TokenBucketRateLimiter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Service
 public class AiProxyService {
 
-    private static final String OPENAI_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
     private static final Logger log = LoggerFactory.getLogger(AiProxyService.class);
     private static final String FALLBACK_CONTENT =
             "죄송합니다, 현재 자동 응답이 원활하지 않습니다. 잠시 후 다시 시도해 주세요.";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    // OpenAI 스트림 종료 표시
+    private static final String STREAM_DONE = "[DONE]";
 
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final String apiKey;
+    private final String openAiUrl;
+    private final SupportAnswerCache supportAnswerCache;
+    private final Bulkhead bulkhead;
+    private final TokenBucketRateLimiter rateLimiter;
 
     public AiProxyService(
             @Value("${openai.api-key:}") String apiKey,
+            @Value("${openai.base-url:https://api.openai.com}") String baseUrl,
+            @Value("${openai.support-cache.max-entries:500}") int supportCacheSize,
+            @Value("${openai.support-cache.ttl-seconds:600}") long supportCacheTtlSeconds,
             RestTemplate restTemplate,
-            ObjectMapper objectMapper
+            WebClient.Builder webClientBuilder,
+            ObjectMapper objectMapper,
+            Bulkhead aiProxyBulkhead,
+            TokenBucketRateLimiter aiProxyRateLimiter
     ) {
         this.apiKey = apiKey;
+        this.bulkhead = aiProxyBulkhead;
+        this.rateLimiter = aiProxyRateLimiter;
+        this.openAiUrl = baseUrl + CHAT_COMPLETIONS_PATH;
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.supportAnswerCache = new SupportAnswerCache(supportCacheSize, supportCacheTtlSeconds * 1000);
+
+        // 스트리밍 응답은 토큰 사이 간격 기준으로 타임아웃 (전체 응답 시간은 길 수 있음)
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
+                .responseTimeout(Duration.ofSeconds(30));
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
-    public AiProxyResponse send(AiProxyRequest request) {
+    /**
+     * @param clientKey 요청 속도 제한 단위 (로그인 사용자 ID 또는 IP)
+     */
+    public AiProxyResponse send(AiProxyRequest request, String clientKey) {
         if (request == null || request.messages() == null || request.messages().isEmpty()) {
             return new AiProxyResponse(FALLBACK_CONTENT + " (요청 메시지 없음)");
         }
@@ -48,28 +92,134 @@ public class AiProxyService {
             log.warn("OpenAI API 키가 설정되지 않았습니다. 환경변수 OPENAI_API_KEY를 확인하세요.");
             return new AiProxyResponse(FALLBACK_CONTENT + " (API 키 미설정)");
         }
+        if (!rateLimiter.tryAcquire(clientKey)) {
+            log.debug("AI 프록시 요청 속도 제한: {}", clientKey);
+            return new AiProxyResponse(FALLBACK_CONTENT);
+        }
+
+        // 같은 고객센터 질문이면 OpenAI 호출 없이 응답
+        String cacheKey = SupportAnswerCache.keyOf(request);
+        String cached = supportAnswerCache.get(cacheKey);
+        if (cached != null) {
+            return new AiProxyResponse(cached);
+        }
 
+        // 동시 호출 수 제한 - 대기열까지 가득 차면 바로 대체 응답
+        if (!bulkhead.tryAcquire()) {
+            log.warn("AI 프록시 동시 요청 한도 초과 (active={}, queued={})", bulkhead.getActiveCount(), bulkhead.getQueueDepth());
+            return new AiProxyResponse(FALLBACK_CONTENT);
+        }
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(apiKey);
 
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", "gpt-4o-mini");
-            body.put("temperature", "support".equalsIgnoreCase(request.purpose()) ? 0.3 : 0.6);
-            body.put("messages", request.messages().stream().map(m -> Map.of(
-                    "role", m.role(),
-                    "content", m.content()
-            )).toList());
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody(request, false), headers);
+            ResponseEntity<String> response = restTemplate.exchange(openAiUrl, HttpMethod.POST, entity, String.class);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-            ResponseEntity<String> response = restTemplate.exchange(OPENAI_URL, HttpMethod.POST, entity, String.class);
-
-            return new AiProxyResponse(extractContent(response.getBody()));
+            String content = extractContent(response.getBody());
+            supportAnswerCache.put(cacheKey, content);
+            return new AiProxyResponse(content);
         } catch (Exception e) {
             log.error("OpenAI 호출 중 오류 발생", e);
             return new AiProxyResponse(FALLBACK_CONTENT);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 스트리밍 응답 - OpenAI가 생성하는 토큰 조각을 도착하는 대로 전달
+     * 요청 스레드를 잡지 않고(WebClient), 오류 시 FALLBACK_CONTENT를 error 이벤트로 전달
+     */
+    public Flux<ServerSentEvent<String>> stream(AiProxyRequest request, String clientKey) {
+        if (request == null || request.messages() == null || request.messages().isEmpty()) {
+            return Flux.just(errorEvent(FALLBACK_CONTENT + " (요청 메시지 없음)"));
+        }
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("OpenAI API 키가 설정되지 않았습니다. 환경변수 OPENAI_API_KEY를 확인하세요.");
+            return Flux.just(errorEvent(FALLBACK_CONTENT + " (API 키 미설정)"));
+        }
+        if (!rateLimiter.tryAcquire(clientKey)) {
+            log.debug("AI 프록시 요청 속도 제한: {}", clientKey);
+            return Flux.just(errorEvent(FALLBACK_CONTENT));
+        }
+
+        String cacheKey = SupportAnswerCache.keyOf(request);
+        String cached = supportAnswerCache.get(cacheKey);
+        if (cached != null) {
+            return Flux.just(ServerSentEvent.builder(cached).build(), doneEvent());
         }
+
+        // 완성된 답변은 캐시에 저장 (support 요청만)
+        Flux<ServerSentEvent<String>> tokens = Flux.defer(() -> {
+            StringBuilder answer = new StringBuilder();
+            return webClient.post()
+                    .uri(CHAT_COMPLETIONS_PATH)
+                    .headers(headers -> headers.setBearerAuth(apiKey))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody(request, true))
+                    .retrieve()
+                    .bodyToFlux(SSE_TYPE)
+                    .mapNotNull(ServerSentEvent::data)
+                    .takeWhile(data -> !STREAM_DONE.equals(data))
+                    .mapNotNull(this::extractDelta)
+                    .doOnNext(answer::append)
+                    .doOnComplete(() -> supportAnswerCache.put(cacheKey, answer.toString()))
+                    .map(delta -> ServerSentEvent.builder(delta).build());
+        });
+
+        // 허가 대기는 블로킹 허용 스케줄러에서, 허가는 스트림이 끝나거나(완료/오류) 클라이언트가 끊을 때 반납
+        return Flux.using(
+                        bulkhead::tryAcquire,
+                        acquired -> {
+                            if (!acquired) {
+                                log.warn("AI 프록시 동시 요청 한도 초과 (active={}, queued={})",
+                                        bulkhead.getActiveCount(), bulkhead.getQueueDepth());
+                                return Flux.just(errorEvent(FALLBACK_CONTENT));
+                            }
+                            return tokens
+                                    .concatWith(Flux.just(doneEvent()))
+                                    .onErrorResume(e -> {
+                                        log.error("OpenAI 스트리밍 중 오류 발생", e);
+                                        return Flux.just(errorEvent(FALLBACK_CONTENT));
+                                    });
+                        },
+                        acquired -> {
+                            if (acquired) bulkhead.release();
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 동시 실행/대기열/거절 현황
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("activeCount", bulkhead.getActiveCount());
+        metrics.put("maxConcurrent", bulkhead.getMaxConcurrent());
+        metrics.put("queueDepth", bulkhead.getQueueDepth());
+        metrics.put("maxQueue", bulkhead.getMaxWaiting());
+        metrics.put("bulkheadRejected", bulkhead.getRejectedCount());
+        metrics.put("rateLimitRejected", rateLimiter.getRejectedCount());
+        metrics.put("rateLimitedClients", rateLimiter.getClientCount());
+        metrics.put("supportCacheSize", supportAnswerCache.size());
+        return metrics;
+    }
+
+    private Map<String, Object> requestBody(AiProxyRequest request, boolean stream) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", "gpt-4o-mini");
+        body.put("temperature", "support".equalsIgnoreCase(request.purpose()) ? 0.3 : 0.6);
+        body.put("messages", request.messages().stream().map(m -> Map.of(
+                "role", m.role(),
+                "content", m.content()
+        )).toList());
+        if (stream) {
+            body.put("stream", true);
+        }
+        return body;
     }
 
     private String extractContent(String responseBody) {
@@ -84,4 +234,22 @@ public class AiProxyService {
         }
         throw new IllegalStateException("OpenAI 응답에 유효한 content가 없습니다.");
     }
+
+    // 스트림 조각: {"choices":[{"delta":{"content":"..."}}]} - 역할/종료 조각은 content가 없음
+    private String extractDelta(String chunk) {
+        try {
+            JsonNode content = objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() && !content.asText().isEmpty() ? content.asText() : null;
+        } catch (Exception e) {
+            throw new IllegalStateException("OpenAI 스트림 응답을 처리하는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private static ServerSentEvent<String> doneEvent() {
+        return ServerSentEvent.<String>builder().event("done").data("").build();
+    }
+
+    private static ServerSentEvent<String> errorEvent(String message) {
+        return ServerSentEvent.<String>builder().event("error").data(message).build();
+    }
 }
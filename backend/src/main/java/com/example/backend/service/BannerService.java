@@ -1,11 +1,17 @@
 package com.example.backend.service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.backend.dto.banner.BannerRequest;
 import com.example.backend.dto.banner.BannerResponse;
+import com.example.backend.dto.banner.BannerSnapshot;
 import com.example.backend.entity.banner.Banner;
 import com.example.backend.repository.BannerRepository;
 
@@ -31,14 +38,70 @@ public class BannerService {
 
     private final BannerRepository bannerRepository;
 
+    // 다른 서버 인스턴스에서 변경된 배너도 이 시간 안에 반영
+    @Value("${cache.banner.ttl-seconds:300}")
+    private long snapshotTtlSeconds;
+
+    // 활성 배너 스냅샷 - 배너 생성/수정/삭제 시 무효화, 다음 조회 때 한 번만 DB에서 다시 읽음
+    private final AtomicLong version = new AtomicLong();
+    private volatile BannerSnapshot activeSnapshot;
+
     /**
      * 활성화된 배너 목록 조회 (사용자용)
      */
     public List<BannerResponse> getActiveBanners() {
-        return bannerRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
-                .stream()
-                .map(BannerResponse::fromEntity)
-                .collect(Collectors.toList());
+        return getActiveBannerSnapshot().banners();
+    }
+
+    /**
+     * 활성화된 배너 스냅샷 조회 (ETag 포함)
+     */
+    public BannerSnapshot getActiveBannerSnapshot() {
+        BannerSnapshot snapshot = activeSnapshot;
+        if (snapshot != null && snapshot.version() == version.get()
+                && snapshot.loadedAt().plusSeconds(snapshotTtlSeconds).isAfter(Instant.now())) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = activeSnapshot;
+            long currentVersion = version.get();
+            if (snapshot != null && snapshot.version() == currentVersion
+                    && snapshot.loadedAt().plusSeconds(snapshotTtlSeconds).isAfter(Instant.now())) {
+                return snapshot;
+            }
+            List<BannerResponse> banners = bannerRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
+                    .stream()
+                    .map(BannerResponse::fromEntity)
+                    .toList();
+            snapshot = new BannerSnapshot(currentVersion, etagOf(banners), banners, Instant.now());
+            activeSnapshot = snapshot;
+            return snapshot;
+        }
+    }
+
+    private void invalidateActiveBanners() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 배너 내용 해시 기반 ETag
+     */
+    private String etagOf(List<BannerResponse> banners) {
+        StringBuilder content = new StringBuilder();
+        for (BannerResponse banner : banners) {
+            content.append(banner.getId()).append('|')
+                    .append(banner.getImageUrl()).append('|')
+                    .append(banner.getTitle()).append('|')
+                    .append(banner.getLinkUrl()).append('|')
+                    .append(banner.getDisplayOrder()).append('\n');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -82,6 +145,7 @@ public class BannerService {
                 .build();
 
         Banner savedBanner = bannerRepository.save(banner);
+        invalidateActiveBanners();
         return BannerResponse.fromEntity(savedBanner);
     }
 
@@ -113,6 +177,7 @@ public class BannerService {
         }
 
         Banner savedBanner = bannerRepository.save(banner);
+        invalidateActiveBanners();
         return BannerResponse.fromEntity(savedBanner);
     }
 
@@ -123,6 +188,7 @@ public class BannerService {
         Banner banner = bannerRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Banner not found with id: " + id));
         bannerRepository.delete(banner);
+        invalidateActiveBanners();
     }
 
     /**
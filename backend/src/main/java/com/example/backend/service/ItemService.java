@@ -1,24 +1,48 @@
 package com.example.backend.service;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import com.example.backend.dto.item.CursorPageResponse;
+import com.example.backend.dto.item.FacetCountsResponse;
 import com.example.backend.dto.item.IndexItemRequest;
 import com.example.backend.dto.item.IndexItemResponse;
+import com.example.backend.dto.item.ItemCardRow;
+import com.example.backend.dto.item.ItemColorRow;
+import com.example.backend.dto.item.ItemSizeRow;
+import com.example.backend.dto.item.ItemStockRow;
 import com.example.backend.dto.item.ShowItemResponse;
 import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
 import com.example.backend.entity.item.utility.CartItem;
 import com.example.backend.entity.item.utility.FavoriteItem;
 import com.example.backend.entity.user.User;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.repository.item.CartItemRepository;
+import com.example.backend.repository.item.ColorRepostitory;
 import com.example.backend.repository.item.FavoriteItemRepository;
 import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.SizeRepository;
+import com.example.backend.service.cache.ItemDetailCache;
+import com.example.backend.service.cache.ItemLikeCountBuffer;
+import com.example.backend.service.cache.ItemStockCache;
 import com.example.backend.service.search.IndexItemSpec;
+import com.example.backend.service.search.ItemFacetIndex;
+import com.example.backend.service.search.ItemSearchIndex;
+import com.example.backend.service.search.utility.Filter;
+import com.example.backend.service.search.utility.ItemCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,8 +53,56 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final FavoriteItemRepository favoriteItemRepository;
     private final CartItemRepository cartItemRepository;
+    private final ColorRepostitory colorRepository;
+    private final SizeRepository sizeRepository;
     
-    private final UserRepository userRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemFacetIndex itemFacetIndex;
+    private final ItemDetailCache itemDetailCache;
+    private final ItemLikeCountBuffer itemLikeCountBuffer;
+    private final ItemStockCache itemStockCache;
+
+    // 검색 후보가 이보다 많으면 IN 목록 대신 기존 LIKE 검색 사용
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
+
+    /**
+     * 검색어를 n-gram 인덱스로 후보 상품 ID로 변환
+     * @return 후보 ID 목록, 검색어 없음/인덱스 미준비/후보 과다 시 null (SQL LIKE 검색으로 대체)
+     */
+    private Set<Long> resolveSearchItemIds(String searchField, String searchTerm) {
+        if (!itemSearchIndex.isReady()) {
+            return null;
+        }
+        Set<Long> itemIds = itemSearchIndex.search(searchField, searchTerm);
+        if (itemIds != null && itemIds.size() > MAX_SEARCH_CANDIDATES) {
+            return null;
+        }
+        return itemIds;
+    }
+
+    /**
+     * 검색 후보 ID + 재고 조건 후보 ID
+     * - inStock이면 재고 캐시에서 선택한 색상/사이즈 재고가 있는 상품 ID로 후보를 좁힘
+     * - 캐시 미준비/후보 과다 시 검색 후보만 반환 (상품 재고 합계 조건은 SQL로 적용)
+     */
+    private Set<Long> resolveItemIds(String searchField, String searchTerm, List<String> colors, List<String> sizes, Boolean inStock) {
+        Set<Long> itemIds = resolveSearchItemIds(searchField, searchTerm);
+        if (!Boolean.TRUE.equals(inStock)) {
+            return itemIds;
+        }
+        Set<Long> availableIds = itemStockCache.findAvailableItemIds(
+                colors != null ? Filter.toEnums(ColorEnum.class, colors) : List.of(),
+                sizes != null ? Filter.toEnums(SizeEnum.class, sizes) : List.of());
+        if (availableIds == null) {
+            return itemIds;
+        }
+        if (itemIds != null) {
+            Set<Long> intersection = new HashSet<>(itemIds);
+            intersection.retainAll(availableIds);
+            return intersection;
+        }
+        return availableIds.size() > MAX_SEARCH_CANDIDATES ? null : availableIds;
+    }
 
     private <T> Page<IndexItemResponse> getIndexPage(
             Pageable pageable,
@@ -45,24 +117,131 @@ public class ItemService {
             java.util.function.Function<T, Item> itemExtractor
     ) {
         Page<T> itemPage = repository.findAll(spec, pageable);
+        List<Long> itemIds = itemPage.getContent().stream()
+                .map(entity -> itemExtractor.apply(entity).getId())
+                .toList();
+
+        // 페이지 단위로 즐겨찾기/장바구니 여부를 한 번에 조회 (아이템별 exists 쿼리 방지)
+        Set<Long> favoriteItemIds = findFavoriteItemIds(itemIds, user);
+        Set<Long> cartItemIds = findCartItemIds(itemIds, user);
+
         return itemPage.map(entity -> {
             Item item = itemExtractor.apply(entity);
-            boolean isFavorite = user != null && favoriteItemRepository.existsByItemAndUser(item, user);
-            boolean isCart = user != null && cartItemRepository.existsByItemAndUser(item, user);
-            return IndexItemResponse.fromEntity(item, isFavorite, isCart);
+            return IndexItemResponse.fromEntity(item,
+                    favoriteItemIds.contains(item.getId()),
+                    cartItemIds.contains(item.getId()));
         });
     }
 
-    public Page<IndexItemResponse> indexItem(Pageable pageable, String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, User user) {
-        Specification<Item> spec = IndexItemSpec.search(searchField, searchTerm, majorCategory, middleCategory, subcategory, colors, sizes, minPrice, maxPrice);
-        return getIndexPage(pageable, searchField, searchTerm, majorCategory, middleCategory, subcategory, user, spec, itemRepository, item -> item);
+    /**
+     * 카드 프로젝션 -> 목록 응답 변환
+     * 색상/사이즈/즐겨찾기/장바구니 여부를 페이지 단위 IN 쿼리로 한 번씩만 조회
+     */
+    private List<IndexItemResponse> toCardResponses(List<ItemCardRow> cards, User user) {
+        List<Long> itemIds = cards.stream().map(ItemCardRow::id).toList();
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> colors = colorRepository.findColorRowsByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemColorRow::itemId,
+                        Collectors.mapping(row -> row.color().name(), Collectors.toList())));
+        Map<Long, List<String>> sizes = sizeRepository.findSizeRowsByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemSizeRow::itemId,
+                        Collectors.mapping(row -> row.size().name(), Collectors.toList())));
+        Set<Long> favoriteItemIds = findFavoriteItemIds(itemIds, user);
+        Set<Long> cartItemIds = findCartItemIds(itemIds, user);
+
+        // 품절/재고 부족 상태는 주문마다 차감되는 상품 재고(Item.stock) 그대로
+        return cards.stream()
+                .map(card -> IndexItemResponse.fromCard(card,
+                        colors.getOrDefault(card.id(), List.of()),
+                        sizes.getOrDefault(card.id(), List.of()),
+                        favoriteItemIds.contains(card.id()),
+                        cartItemIds.contains(card.id())))
+                .toList();
+    }
+
+    private Set<Long> findFavoriteItemIds(List<Long> itemIds, User user) {
+        if (user == null || itemIds.isEmpty()) {
+            return Set.of();
+        }
+        return favoriteItemRepository.findItemIdsByUserAndItemIdIn(user, itemIds);
+    }
+
+    private Set<Long> findCartItemIds(List<Long> itemIds, User user) {
+        if (user == null || itemIds.isEmpty()) {
+            return Set.of();
+        }
+        return cartItemRepository.findItemIdsByUserAndItemIdIn(user, itemIds);
+    }
+
+    public Page<IndexItemResponse> indexItem(Pageable pageable, String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, Boolean inStock, User user) {
+        Specification<Item> spec = IndexItemSpec.search(searchField, searchTerm, majorCategory, middleCategory, subcategory, colors, sizes, minPrice, maxPrice,
+                resolveItemIds(searchField, searchTerm, colors, sizes, inStock))
+                .and(IndexItemSpec.inStock(inStock));
+        // 엔티티 대신 카드 컬럼만 조회 (description, 연관 컬렉션 미로딩)
+        Page<ItemCardRow> cardPage = itemRepository.findCards(spec, pageable);
+        List<IndexItemResponse> content = toCardResponses(cardPage.getContent(), user);
+        return new PageImpl<>(content, pageable, cardPage.getTotalElements());
+    }
+
+    /**
+     * 키셋(커서) 페이지네이션 아이템 목록 조회
+     * OFFSET 없이 마지막 (정렬 키, id) 이후의 size+1건만 조회해 다음 페이지 여부를 판단
+     */
+    public CursorPageResponse<IndexItemResponse> indexItemByCursor(int size, Sort sort, IndexItemRequest searchParams, User user) {
+        String sortField = ItemCursor.resolveSortField(sort);
+        Direction direction = ItemCursor.resolveDirection(sort);
+        ItemCursor cursor = searchParams.getCursor() != null && !searchParams.getCursor().isBlank()
+                ? ItemCursor.decode(searchParams.getCursor(), sortField, direction)
+                : null;
+
+        Specification<Item> filterSpec = IndexItemSpec.search(
+                searchParams.getSearchField(), searchParams.getSearchTerm(),
+                searchParams.getMajorCategory(), searchParams.getMiddleCategory(), searchParams.getSubcategory(),
+                searchParams.getColors(), searchParams.getItemSizes(), searchParams.getMinPrice(), searchParams.getMaxPrice(),
+                resolveItemIds(searchParams.getSearchField(), searchParams.getSearchTerm(),
+                        searchParams.getColors(), searchParams.getItemSizes(), searchParams.getInStock()))
+                .and(IndexItemSpec.inStock(searchParams.getInStock()));
+        Specification<Item> spec = filterSpec.and(IndexItemSpec.after(cursor));
+
+        List<ItemCardRow> cards = itemRepository.findCards(spec, ItemCursor.toSort(sortField, direction), size + 1);
+
+        boolean hasNext = cards.size() > size;
+        if (hasNext) {
+            cards = cards.subList(0, size);
+        }
+        String nextCursor = hasNext
+                ? ItemCursor.of(cards.get(cards.size() - 1), sortField, direction).encode()
+                : null;
+        Long totalElements = Boolean.TRUE.equals(searchParams.getWithTotal())
+                ? itemRepository.count(filterSpec)
+                : null;
+
+        return CursorPageResponse.<IndexItemResponse>builder()
+                .content(toCardResponses(cards, user))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .totalElements(totalElements)
+                .build();
+    }
+
+    /**
+     * 필터 사이드바 패싯 카운트 조회
+     */
+    public FacetCountsResponse getFacetCounts(IndexItemRequest searchParams) {
+        return itemFacetIndex.count(searchParams);
     }
 
     public Page<IndexItemResponse> indexFavorite(Pageable pageable, IndexItemRequest searchParams, User user) {
         Specification<FavoriteItem> spec = IndexItemSpec.searchFavorites(
             searchParams.getSearchField(), searchParams.getSearchTerm(),
             searchParams.getMajorCategory(), searchParams.getMiddleCategory(), searchParams.getSubcategory(),
-            searchParams.getColors(), searchParams.getItemSizes(), searchParams.getMinPrice(), searchParams.getMaxPrice(), user);
+            searchParams.getColors(), searchParams.getItemSizes(), searchParams.getMinPrice(), searchParams.getMaxPrice(),
+            resolveItemIds(searchParams.getSearchField(), searchParams.getSearchTerm(),
+                searchParams.getColors(), searchParams.getItemSizes(), searchParams.getInStock()), user)
+            .and(IndexItemSpec.inStock(searchParams.getInStock()));
         return getIndexPage(pageable, searchParams.getSearchField(), searchParams.getSearchTerm(),
             searchParams.getMajorCategory(), searchParams.getMiddleCategory(), searchParams.getSubcategory(),
             user, spec, favoriteItemRepository, favoriteItem -> favoriteItem.getItem());
@@ -72,56 +251,65 @@ public class ItemService {
         Specification<CartItem> spec = IndexItemSpec.searchCart(
             searchParams.getSearchField(), searchParams.getSearchTerm(),
             searchParams.getMajorCategory(), searchParams.getMiddleCategory(), searchParams.getSubcategory(),
-            searchParams.getColors(), searchParams.getItemSizes(), searchParams.getMinPrice(), searchParams.getMaxPrice(), user);
+            searchParams.getColors(), searchParams.getItemSizes(), searchParams.getMinPrice(), searchParams.getMaxPrice(),
+            resolveItemIds(searchParams.getSearchField(), searchParams.getSearchTerm(),
+                searchParams.getColors(), searchParams.getItemSizes(), searchParams.getInStock()), user)
+            .and(IndexItemSpec.inStock(searchParams.getInStock()));
         return getIndexPage(pageable, searchParams.getSearchField(), searchParams.getSearchTerm(),
             searchParams.getMajorCategory(), searchParams.getMiddleCategory(), searchParams.getSubcategory(),
             user, spec, cartItemRepository, cartItem -> cartItem.getItem());
     }
 
     public ShowItemResponse getItemById(Long itemId, User user) {
-        Item item = itemRepository.findById(itemId)
+        // 상품 공통 정보는 캐시, 재고와 즐겨찾기/장바구니 여부는 요청마다 조회
+        // 재고는 다른 노드의 주문으로도 바뀌므로 캐시 값을 쓰지 않음 (PK 조회 1회)
+        Integer stock = itemRepository.findStockRowById(itemId)
+                .map(ItemStockRow::stock)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + itemId));
-        return ShowItemResponse.fromEntity(item,
-                 favoriteItemRepository.existsByItemAndUser(item, user),
-                 cartItemRepository.existsByItemAndUser(item, user));
+        ShowItemResponse detail = itemDetailCache.get(itemId, () -> {
+            Item item = itemRepository.findById(itemId)
+                    .orElseThrow(() -> new RuntimeException("Item not found with id: " + itemId));
+            return ShowItemResponse.fromEntity(item, false, false);
+        });
+        return detail.withLiveValues(stock,
+                user != null && favoriteItemRepository.existsByItemIdAndUser(itemId, user),
+                user != null && cartItemRepository.existsByItemIdAndUser(itemId, user));
     }
 
+    @Transactional
     public void toggleFavoriteItem(Long itemId, User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + user.getUserId()));
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + itemId));
 
-        boolean exists = favoriteItemRepository.existsByItemAndUser(item, savedUser);
-        if (exists) {
-            FavoriteItem favoriteItem = favoriteItemRepository.findByItemAndUser(item, savedUser)
-                    .orElseThrow(() -> new RuntimeException("FavoriteItem not found for item id: " + itemId + " and user id: " + savedUser.getUserId()));
-            favoriteItemRepository.delete(favoriteItem);
-            item.setLikeCount(Math.max(item.getLikeCount() - 1, 0));
+        // 좋아요 수는 item 행을 직접 읽고 쓰지 않고 버퍼에 증감분만 기록 (커밋 후 일괄 반영)
+        long deleted = favoriteItemRepository.deleteByItemAndUser(item, user);
+        if (deleted > 0) {
+            itemLikeCountBuffer.add(itemId, (int) -deleted);
         } else {
             FavoriteItem favoriteItem = new FavoriteItem();
             favoriteItem.setItem(item);
             favoriteItem.setUser(user);
             favoriteItemRepository.save(favoriteItem);
-            item.setLikeCount(item.getLikeCount() + 1);
+            itemLikeCountBuffer.add(itemId, 1);
         }
     }
 
+    @Transactional
     public void toggleCartItem(Long itemId, User user) {
-        User savedUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + user.getUserId()));
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + itemId));
 
-        boolean exists = cartItemRepository.existsByItemAndUser(item, savedUser);
+        boolean exists = cartItemRepository.existsByItemAndUser(item, user);
         if (exists) {
-            cartItemRepository.deleteByItemAndUser(item, savedUser);
+            long deleted = cartItemRepository.deleteByItemAndUser(item, user);
+            itemRepository.addCartCount(item.getId(), (int) -deleted);
         } else {
             CartItem cartItem = new CartItem();
             cartItem.setItem(item);
-            cartItem.setUser(savedUser);
+            cartItem.setUser(user);
             cartItem.setNumber(1);
             cartItemRepository.save(cartItem);
+            itemRepository.addCartCount(item.getId(), 1);
         }
     }
 }
@@ -1,70 +1,112 @@
 package com.example.backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.dto.item.CursorPageResponse;
+import com.example.backend.dto.order.AdminOrderRow;
 import com.example.backend.dto.order.OrderDetailResponse;
 import com.example.backend.dto.order.OrderListResponse;
 import com.example.backend.dto.order.OrderRequest;
+import com.example.backend.entity.item.enums.OrderStatus;
 import com.example.backend.entity.item.utility.CartItem;
 import com.example.backend.entity.item.utility.OrderItem;
 import com.example.backend.entity.item.utility.OrderItemList;
 import com.example.backend.entity.user.User;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.repository.item.CartItemRepository;
+import com.example.backend.repository.item.ItemRepository;
 import com.example.backend.repository.item.OrderItemListRepository;
 import com.example.backend.repository.item.OrderItemRepository;
+import com.example.backend.service.inventory.StockKey;
+import com.example.backend.service.inventory.StockReservationService;
+import com.example.backend.service.outbox.OrderPlacedEvent;
+import com.example.backend.service.outbox.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
 public class OrderService {
-    private final UserRepository userRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderItemListRepository orderItemListRepository;
     private final CartItemRepository cartItemRepository;
+    private final ItemRepository itemRepository;
+    private final StockReservationService stockReservationService;
+    private final OutboxService outboxService;
     
+    /**
+     * 장바구니 상품 주문 - 재고를 예약하고 결제 승인을 기다림
+     * @param orderNumber 트랜잭션 밖에서 미리 발급한 주문 번호 (블록 할당이 주문 트랜잭션과 커넥션을 나눠 쓰지 않도록)
+     * @return 결제 요청에 사용할 주문 번호
+     */
     @Transactional
-    public void order(OrderRequest dto, User user) {
-        User orderUser = userRepository.findById(user.getUserId()).orElse(null);
-        List<CartItem> cartItemList = cartItemRepository.findAllByUser(orderUser);
+    public String order(OrderRequest dto, User user, String orderNumber) {
+        List<CartItem> cartItemList = cartItemRepository.findAllByUser(user);
 
         int totalPrice = cartItemList.stream()
             .mapToInt(cartItem -> cartItem.getItem().getRealPrice() * cartItem.getNumber())
             .sum();
 
         OrderItem orderItem = OrderItem.builder()
-            .user(orderUser)
+            .orderNumber(orderNumber)
+            .user(user)
             .call(dto.getCall())
             .addr(dto.getAddr())
             .zipcode(dto.getZipcode())
             .totalPrice(totalPrice)
+            .status(OrderStatus.PENDING_PAYMENT)
+            .lineCount(cartItemList.size())
+            .firstItemTitle(cartItemList.isEmpty() ? null : cartItemList.get(0).getItem().getTitle())
+            .firstItemImageUrl(cartItemList.isEmpty() ? null : cartItemList.get(0).getItem().getMainImageUrl())
             .build();
         orderItemRepository.save(orderItem);
 
-        cartItemList.forEach(cartItem -> {
-            OrderItemList orderItemList = OrderItemList.builder()
+        // 재고 예약 (부족하면 예외 -> 주문 전체 롤백)
+        Map<StockKey, Integer> quantities = cartItemList.stream()
+            .collect(Collectors.toMap(
+                cartItem -> new StockKey(cartItem.getItem().getId(), cartItem.getColor(), cartItem.getSize()),
+                CartItem::getNumber, Integer::sum));
+        stockReservationService.reserve(orderItem, quantities);
+
+        // 시퀀스 ID라 insert가 flush 시점에 JDBC 배치로 묶임 (hibernate.jdbc.batch_size)
+        List<OrderItemList> orderItemLists = cartItemList.stream()
+            .map(cartItem -> OrderItemList.builder()
                 .orderItem(orderItem)
                 .item(cartItem.getItem())
                 .number(cartItem.getNumber())
+                .unitPrice(cartItem.getItem().getRealPrice())
                 .color(cartItem.getColor())
                 .size(cartItem.getSize())
-                .build();
-            orderItemListRepository.save(orderItemList);
-        });
+                .build())
+            .toList();
+        orderItemListRepository.saveAll(orderItemLists);
+
+        // 장바구니 수 차감 후 장바구니 일괄 삭제 (장바구니 크기와 무관하게 2문장)
+        itemRepository.subtractCartCountsByUser(user);
+        cartItemRepository.deleteAllInBulkByUser(user);
 
-        cartItemRepository.deleteAllByUser(orderUser);
+        // 후속 작업(알림, 통계 등)은 같은 트랜잭션에 이벤트만 기록하고 디스패처가 비동기로 처리
+        outboxService.publish(OrderPlacedEvent.TYPE, orderItem.getId(), new OrderPlacedEvent(
+            orderItem.getId(), user.getUserId(), totalPrice, cartItemList.size()));
+
+        return orderItem.getOrderNumber();
     }
 
     public OrderDetailResponse getDetail(Long orderId) {
         OrderItem orderItem = orderItemRepository.findById(orderId).orElse(null);
         return OrderDetailResponse.builder()
-            .items(orderItem.getItemList().stream().map(orderItemList -> orderItemList.getItem()).toList())
+            // 주문 상품은 필요한 컬럼만 조인 쿼리 1번으로 조회
+            .items(orderItemListRepository.findLinesByOrderId(orderId))
             .username(orderItem.getUser().getUsername())
             .addr(orderItem.getAddr())
             .call(orderItem.getCall())
@@ -74,37 +116,86 @@ public class OrderService {
     }
 
     /**
-     * 주문 목록 조회
+     * 주문 목록 조회 - 주문 테이블의 요약 컬럼만 읽는 페이지 쿼리 1번 (+ count)
      */
     public Page<OrderListResponse> getOrderList(User user, Pageable pageable) {
-        User orderUser = userRepository.findById(user.getUserId()).orElse(null);
-        Page<OrderItem> orderItems = orderItemRepository.findByUserOrderByIdDesc(orderUser, pageable);
-
-        return orderItems.map(orderItem -> {
-            List<OrderItemList> itemList = orderItem.getItemList();
-            String title = "";
-            String mainImgUrl = "";
-
-            if (itemList != null && !itemList.isEmpty()) {
-                // 첫 번째 상품 정보
-                var firstItem = itemList.get(0).getItem();
-                title = firstItem.getTitle();
-                mainImgUrl = firstItem.getMainImageUrl();
-
-                // 여러 상품이면 "외 n개" 추가
-                if (itemList.size() > 1) {
-                    title = title + " 외 " + (itemList.size() - 1) + "개";
-                }
+        return orderItemRepository.findSummariesByUser(user, pageable).map(row -> {
+            String title = row.firstItemTitle() != null ? row.firstItemTitle() : "";
+            // 여러 상품이면 "외 n개" 추가
+            if (row.lineCount() != null && row.lineCount() > 1) {
+                title = title + " 외 " + (row.lineCount() - 1) + "개";
             }
 
             return OrderListResponse.builder()
-                .orderId(orderItem.getId())
+                .orderId(row.id())
                 .title(title)
-                .mainImgUrl(mainImgUrl)
-                .totalPrice(orderItem.getTotalPrice())
-                .status("paid") // 결제완료 상태
-                .createdAt(orderItem.getCreatedAt())
+                .mainImgUrl(row.firstItemImageUrl() != null ? row.firstItemImageUrl() : "")
+                .totalPrice(row.totalPrice())
+                .status(row.status() != null ? row.status().getCode() : OrderStatus.PENDING_PAYMENT.getCode())
+                .createdAt(row.createdAt())
                 .build();
         });
     }
+
+    /**
+     * 주문 상태 변경 - 허용된 전이만, 현재 상태 조건부 UPDATE라 동시 요청 중 하나만 성공
+     * 이미 목표 상태면 그대로 둠 (결제 승인/취소 재요청)
+     */
+    @Transactional
+    public void changeStatus(Long orderId, OrderStatus to) {
+        OrderItem orderItem = orderItemRepository.findById(orderId)
+            .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없습니다."));
+        OrderStatus from = orderItem.getStatus();
+        if (from == to) return;
+        if (from == null || !from.canTransitionTo(to)) {
+            throw new RuntimeException("주문 상태를 변경할 수 없습니다: " + from + " -> " + to);
+        }
+        if (orderItemRepository.changeStatus(orderId, from, to) == 0) {
+            throw new RuntimeException("주문 상태가 이미 변경되었습니다. 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 관리자 상태별 주문 목록 - 오래된 주문부터, (createdAt, id) 키셋 커서
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPageResponse<AdminOrderRow> getAdminOrders(OrderStatus status, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AdminOrderRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderItemRepository.findAdminRows(status, limit);
+        } else {
+            String[] parts = decodeCursor(cursor);
+            rows = orderItemRepository.findAdminRowsAfter(status, LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<AdminOrderRow> content = hasNext ? rows.subList(0, size) : rows;
+        AdminOrderRow last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return CursorPageResponse.<AdminOrderRow>builder()
+            .content(content)
+            .nextCursor(hasNext ? encodeCursor(last) : null)
+            .hasNext(hasNext)
+            .size(content.size())
+            .build();
+    }
+
+    // "createdAt|id" -> Base64 URL-safe
+    private static String encodeCursor(AdminOrderRow row) {
+        String raw = row.createdAt() + "|" + row.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException();
+            LocalDateTime.parse(parts[0]);
+            Long.valueOf(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
 }
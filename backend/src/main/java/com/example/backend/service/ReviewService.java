@@ -2,6 +2,7 @@ package com.example.backend.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.example.backend.entity.review.Review;
 import com.example.backend.entity.user.User;
 import com.example.backend.repository.ReviewRepository;
 import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.service.event.ItemChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +23,7 @@ public class ReviewService {
     
     private final ItemRepository itemRepository;
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public List<IndexReviewResponse> indexReview(Long itemId) {
@@ -48,17 +51,33 @@ public class ReviewService {
                 .user(user)
                 .build();
         reviewRepository.save(review);
+        itemRepository.addReviewStats(item.getId(), 1, scoreOf(review));
+        eventPublisher.publishEvent(ItemChangedEvent.stats(item.getId()));
     }
 
     @Transactional
     public void updateReview(Long reviewId, ReviewCreateRequest dto) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
+        int previousScore = scoreOf(review);
         review.update(dto);
+        int scoreDelta = scoreOf(review) - previousScore;
+        if (scoreDelta != 0) {
+            itemRepository.addReviewStats(review.getItem().getId(), 0, scoreDelta);
+            eventPublisher.publishEvent(ItemChangedEvent.stats(review.getItem().getId()));
+        }
     }
 
     @Transactional
     public void deleteReview(Long reviewId) {
-        reviewRepository.deleteById(reviewId);
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found"));
+        reviewRepository.delete(review);
+        itemRepository.addReviewStats(review.getItem().getId(), -1, -scoreOf(review));
+        eventPublisher.publishEvent(ItemChangedEvent.stats(review.getItem().getId()));
+    }
+
+    private int scoreOf(Review review) {
+        return review.getScore() != null ? review.getScore() : 0;
     }
 }
@@ -1,10 +1,12 @@
 package com.example.backend.service;
 
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.example.backend.entity.user.User;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.security.AuthUser;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,19 +16,33 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class UserService {
 
-    private final UserRepository userRepository;    
+    private final UserRepository userRepository;
 
+    /**
+     * 로그인 사용자 조회
+     * - users 테이블을 조회하지 않고 토큰의 userId로 만든 참조(프록시)를 반환
+     * - id 외의 필드(이름, 이메일 등)에 접근할 때만 실제 조회가 일어남
+     * @return 비로그인 사용자면 null
+     */
     public User checkLoginAndGetUser() throws Exception {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        AuthUser authUser = getAuthUser();
+        if (authUser == null) return null;
+        return userRepository.getReferenceById(authUser.userId());
+    }
+
+    /**
+     * 토큰에 담긴 로그인 사용자 정보 (DB 조회 없음)
+     * @return 비로그인 사용자면 null
+     */
+    public AuthUser getAuthUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) return null;
 
         // 비로그인 사용자의 경우 "anonymousUser" 문자열이 반환됨
-        if (principal instanceof Long) {
-            Long userId = (Long) principal;
-            log.info("User Id: {}", userId);
-            return userRepository.findById(userId).orElse(null);
+        if (authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
         }
-
         return null;
     }
-    
-}
\ No newline at end of file
+
+}
@@ -0,0 +1,71 @@
+package com.example.backend.service.cache;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.dto.item.ShowItemResponse;
+import com.example.backend.service.event.ItemChangedEvent;
+
+/**
+ * 상품 상세 캐시 (LRU, 최대 개수 제한)
+ * - 사용자별 값(즐겨찾기/장바구니 여부)과 재고는 제외한 공통 부분만 저장, 요청마다 덮어써서 반환
+ * - ItemChangedEvent 커밋 후 해당 상품 항목 제거
+ * - 이벤트는 같은 노드에서만 받으므로 다른 노드의 변경은 TTL이 지나면 반영
+ */
+@Component
+public class ItemDetailCache {
+
+    private final Map<Long, CachedDetail> entries;
+    private final long ttlSeconds;
+    // 무효화마다 증가 - 조회 중 무효화된 값이 다시 저장되지 않도록 비교
+    private final AtomicLong generation = new AtomicLong();
+
+    private record CachedDetail(ShowItemResponse response, Instant loadedAt) {
+    }
+
+    public ItemDetailCache(@Value("${cache.item-detail.max-size:1000}") int maxSize,
+                           @Value("${cache.item-detail.ttl-seconds:60}") long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public ShowItemResponse get(Long itemId, Supplier<ShowItemResponse> loader) {
+        CachedDetail cached = entries.get(itemId);
+        if (cached != null && cached.loadedAt().plusSeconds(ttlSeconds).isAfter(Instant.now())) {
+            return cached.response();
+        }
+        long before = generation.get();
+        ShowItemResponse loaded = loader.get();
+        synchronized (entries) {
+            if (generation.get() == before) {
+                entries.put(itemId, new CachedDetail(loaded, Instant.now()));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long itemId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(itemId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        evict(event.itemId());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backend.service.cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 좋아요 수 증감 버퍼
+ * - 즐겨찾기 토글마다 item 행을 갱신하지 않고 상품별 스트라이프 카운터에 증감분을 모아 둠
+ * - 주기적으로 상품 ID 순서대로 한 트랜잭션에서 likeCount = likeCount + :delta 로 반영 (인기 상품의 행 잠금 경합 감소)
+ * - 정상 종료 시에는 남은 증감분을 반영, 비정상 종료 시에는 마지막 반영 이후(최대 flush 주기)의 증감분만 유실
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemLikeCountBuffer {
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, StripedCounter> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 수 증감 - 트랜잭션 안이면 커밋 후에 반영 (롤백된 토글은 제외)
+     */
+    public void add(Long itemId, int delta) {
+        if (delta == 0) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(itemId, delta);
+                }
+            });
+            return;
+        }
+        addNow(itemId, delta);
+    }
+
+    void addNow(Long itemId, long delta) {
+        pending.computeIfAbsent(itemId, key -> new StripedCounter()).add(delta);
+    }
+
+    /**
+     * 모인 증감분을 꺼내고 0으로 초기화 (상품 ID 순, 0인 상품 제외)
+     */
+    Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((itemId, counter) -> {
+            long delta = counter.drain();
+            if (delta != 0) deltas.put(itemId, delta);
+        });
+        return deltas;
+    }
+
+    @Scheduled(fixedDelayString = "${item.like-count.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            // 상품 ID 순서로 갱신해 다른 노드의 flush와 교착 상태 방지
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach((itemId, delta) -> itemRepository.addLikeCount(itemId, Math.toIntExact(delta))));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도: {}건", deltas.size(), e);
+            deltas.forEach(this::addNow);
+            return;
+        }
+        deltas.keySet().forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.stats(itemId)));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 스레드별로 칸을 나눠 더하는 카운터 - 인기 상품에 동시 요청이 몰려도 CAS 경합 분산
+     * getAndSet(0)으로 칸마다 꺼내므로 drain 중 들어온 증감분도 유실되지 않음
+     */
+    static final class StripedCounter {
+
+        private static final int STRIPES = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 2) * 2);
+
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES);
+
+        void add(long delta) {
+            int index = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+            cells.addAndGet(index, delta);
+        }
+
+        long drain() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += cells.getAndSet(i, 0);
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.dto.item.ItemStockRow;
+import com.example.backend.dto.item.ItemVariantStockRow;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.ItemVariantStockRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 재고 캐시 - 목록 inStock 필터의 색상/사이즈 후보 ID용
+ * - 상품마다 int 배열 하나: [색상 ordinal * 사이즈 수 + 사이즈 ordinal] = 옵션 재고, 마지막 칸 = 상품 재고
+ * - 옵션별 재고가 없는 상품은 [상품 재고] 한 칸
+ * - 판매 가능 수량의 기준은 Item.stock (주문마다 항상 차감), 옵션 재고는 옵션을 지정한 주문에서만 차감되므로
+ *   상품 재고가 0이면 옵션 재고가 남아 있어도 품절로 봄
+ * - 재고 변경(ItemChangedEvent) 커밋 후 해당 상품만 다시 읽음
+ * - 이벤트는 같은 노드에서만 받으므로 다른 노드의 주문/취소/상품 등록은 주기적 전체 재빌드로 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemStockCache {
+
+    private static final ColorEnum[] COLORS = ColorEnum.values();
+    private static final SizeEnum[] SIZES = SizeEnum.values();
+    private static final int CELLS = COLORS.length * SIZES.length;
+
+    private final ItemRepository itemRepository;
+    private final ItemVariantStockRepository itemVariantStockRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 읽기 시작 순서 - 먼저 시작한 조회 결과가 나중 결과를 덮어쓰지 않도록 비교
+    private final AtomicLong ticket = new AtomicLong();
+    private volatile boolean ready = false;
+
+    private record Entry(long ticket, int[] stocks) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long readTicket = ticket.incrementAndGet();
+        Map<Long, List<ItemVariantStockRow>> variants = new HashMap<>();
+        for (ItemVariantStockRow row : itemVariantStockRepository.findAllStockRows()) {
+            variants.computeIfAbsent(row.itemId(), key -> new ArrayList<>()).add(row);
+        }
+        List<ItemStockRow> items = itemRepository.findAllStockRows();
+        Set<Long> itemIds = new HashSet<>();
+        for (ItemStockRow item : items) {
+            itemIds.add(item.itemId());
+            store(item.itemId(), new Entry(readTicket, toStocks(item, variants.get(item.itemId()))));
+        }
+        // 다른 노드에서 삭제된 상품 제거 (재빌드 시작 후 새로 읽은 항목은 유지)
+        entries.entrySet().removeIf(entry -> entry.getValue().ticket() < readTicket && !itemIds.contains(entry.getKey()));
+        ready = true;
+        log.debug("상품 재고 캐시 빌드 완료: {}건 (옵션 재고 {}건)", items.size(), variants.size());
+    }
+
+    @Scheduled(initialDelayString = "${cache.item-stock.refresh-interval-ms:60000}",
+            fixedDelayString = "${cache.item-stock.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (ready) rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.itemId() == null) return;
+        if (event.type() == ItemChangedEvent.Type.DELETED) {
+            entries.remove(event.itemId());
+            return;
+        }
+        load(event.itemId());
+    }
+
+    /**
+     * 선택한 색상/사이즈 중 하나라도 재고가 있는 상품 ID
+     * - 옵션별 재고가 없는 상품은 상품 재고로만 판단 (색상/사이즈 제공 여부는 SQL 필터가 확인)
+     * @param colors 비어 있으면 전체 색상
+     * @param sizes  비어 있으면 전체 사이즈
+     * @return 캐시 빌드 전이면 null
+     */
+    public Set<Long> findAvailableItemIds(Collection<ColorEnum> colors, Collection<SizeEnum> sizes) {
+        if (!ready) return null;
+        Set<Long> itemIds = new HashSet<>();
+        entries.forEach((itemId, entry) -> {
+            if (isAvailable(entry.stocks(), colors, sizes)) itemIds.add(itemId);
+        });
+        return itemIds;
+    }
+
+    private void load(Long itemId) {
+        long readTicket = ticket.incrementAndGet();
+        ItemStockRow item = itemRepository.findStockRowById(itemId).orElse(null);
+        if (item == null) {
+            entries.remove(itemId);
+            return;
+        }
+        store(itemId, new Entry(readTicket, toStocks(item, itemVariantStockRepository.findStockRowsByItemId(itemId))));
+    }
+
+    private void store(Long itemId, Entry entry) {
+        entries.merge(itemId, entry, (current, loaded) -> loaded.ticket() > current.ticket() ? loaded : current);
+    }
+
+    private static int[] toStocks(ItemStockRow item, List<ItemVariantStockRow> variants) {
+        if (variants == null || variants.isEmpty()) {
+            return new int[] {item.stock() != null ? item.stock() : 0};
+        }
+        int[] stocks = new int[CELLS + 1];
+        for (ItemVariantStockRow variant : variants) {
+            stocks[cell(variant.color(), variant.size())] = variant.stock() != null ? variant.stock() : 0;
+        }
+        stocks[CELLS] = item.stock() != null ? item.stock() : 0;
+        return stocks;
+    }
+
+    private static boolean isAvailable(int[] stocks, Collection<ColorEnum> colors, Collection<SizeEnum> sizes) {
+        if (stocks[stocks.length - 1] <= 0) return false;
+        if (stocks.length == 1) return true;
+        for (ColorEnum color : colors.isEmpty() ? List.of(COLORS) : colors) {
+            for (SizeEnum size : sizes.isEmpty() ? List.of(SIZES) : sizes) {
+                if (stocks[cell(color, size)] > 0) return true;
+            }
+        }
+        return false;
+    }
+
+    private static int cell(ColorEnum color, SizeEnum size) {
+        return color.ordinal() * SIZES.length + size.ordinal();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.backend.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.backend.dto.AiProxyRequest;
+
+/**
+ * 고객센터(support) AI 답변 캐시
+ * - support 요청은 낮은 temperature로 같은 질문에 거의 같은 답을 내므로, 같은 대화 내용이면 OpenAI 호출 없이 재사용
+ * - 대화 내용(role + 공백 정리한 content)의 SHA-256을 키로, 최대 개수(LRU)와 만료 시간으로 크기 제한
+ */
+public class SupportAnswerCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    private record Entry(String content, long expiresAt) {}
+
+    public SupportAnswerCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SupportAnswerCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시 대상 요청의 키 (support가 아니면 null)
+     */
+    public static String keyOf(AiProxyRequest request) {
+        if (request == null || !"support".equalsIgnoreCase(request.purpose())) return null;
+        List<AiProxyRequest.ChatMessage> messages = request.messages();
+        if (messages == null || messages.isEmpty()) return null;
+
+        StringBuilder raw = new StringBuilder();
+        for (AiProxyRequest.ChatMessage message : messages) {
+            raw.append(message.role()).append('\u0000')
+                    .append(message.content() != null ? message.content().trim().replaceAll("\\s+", " ") : "")
+                    .append('\u0001');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized String get(String key) {
+        if (key == null) return null;
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.content();
+    }
+
+    public synchronized void put(String key, String content) {
+        if (key == null || content == null || content.isBlank() || maxEntries == 0) return;
+        entries.put(key, new Entry(content, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
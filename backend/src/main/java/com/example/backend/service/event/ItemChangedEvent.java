@@ -0,0 +1,30 @@
+package com.example.backend.service.event;
+
+/**
+ * 상품 변경 이벤트 - 커밋 후 인메모리 인덱스/캐시 갱신에 사용
+ * @param itemId 변경된 상품 ID
+ * @param type   변경 종류
+ */
+public record ItemChangedEvent(Long itemId, Type type) {
+
+    public enum Type {
+        // 관리자 상품 등록/수정 (검색/패싯 인덱스, 상세 캐시 갱신)
+        CATALOG,
+        // 관리자 상품 삭제
+        DELETED,
+        // 리뷰/좋아요/재고 등 집계 값 변경 (상세 캐시만 무효화)
+        STATS
+    }
+
+    public static ItemChangedEvent catalog(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.CATALOG);
+    }
+
+    public static ItemChangedEvent deleted(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.DELETED);
+    }
+
+    public static ItemChangedEvent stats(Long itemId) {
+        return new ItemChangedEvent(itemId, Type.STATS);
+    }
+}
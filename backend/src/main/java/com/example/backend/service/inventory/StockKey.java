@@ -0,0 +1,26 @@
+package com.example.backend.service.inventory;
+
+import java.util.Comparator;
+
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+
+/**
+ * 재고 단위 (상품 x 색상 x 사이즈) - 색상/사이즈가 없으면 상품 단위
+ * 정렬 순서 = 재고 차감(행 잠금) 순서
+ */
+public record StockKey(Long itemId, ColorEnum color, SizeEnum size) implements Comparable<StockKey> {
+
+    private static final Comparator<StockKey> ORDER = Comparator.comparing(StockKey::itemId)
+            .thenComparing(StockKey::color, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(StockKey::size, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public boolean hasOption() {
+        return color != null && size != null;
+    }
+
+    @Override
+    public int compareTo(StockKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.backend.service.inventory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.item.enums.ReservationStatus;
+import com.example.backend.entity.item.utility.OrderItem;
+import com.example.backend.entity.item.utility.StockReservation;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.ItemVariantStockRepository;
+import com.example.backend.repository.item.StockReservationRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 재고 예약
+ * - 주문 생성: 조건부 UPDATE(stock >= n)로 옵션/상품 재고 차감 + 예약 저장
+ *   (옵션 재고 행을 재고 단위 순서로 먼저, 그다음 상품 행을 상품 ID 순서로 잠가 동시 주문 간 교착 상태 방지)
+ * - 결제 승인: 예약 확정 (그 사이 만료 해제되었으면 재고를 다시 차감, 부족하면 예외)
+ * - 결제 미승인: 만료 시각이 지난 예약을 주기적으로 해제하고 재고 복구
+ * - 주문 취소: 예약/확정된 재고 복구
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StockReservationService {
+
+    private static final int RELEASE_BATCH_SIZE = 100;
+
+    private final ItemRepository itemRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final ItemVariantStockRepository itemVariantStockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 결제 승인 대기 시간
+    @Value("${inventory.reservation.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    /**
+     * 주문 상품 재고 예약 - 주문 생성 트랜잭션과 함께 커밋/롤백
+     * @param quantities 재고 단위(상품 x 색상 x 사이즈) -> 수량
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(OrderItem orderItem, Map<StockKey, Integer> quantities) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+        Map<StockKey, Integer> sorted = new TreeMap<>(quantities);
+
+        // 하나라도 부족하면 예외 -> 앞서 차감한 재고도 함께 롤백
+        Set<StockKey> variantKeys = decreaseVariants(sorted);
+        Map<Long, Integer> itemQuantities = sumByItem(sorted);
+        itemQuantities.forEach((itemId, quantity) -> {
+            if (itemRepository.decreaseStock(itemId, quantity) == 0) {
+                throw new RuntimeException("재고가 부족합니다. itemId: " + itemId);
+            }
+        });
+
+        List<StockReservation> reservations = new ArrayList<>();
+        sorted.forEach((key, quantity) -> {
+            boolean variant = variantKeys.contains(key);
+            reservations.add(StockReservation.builder()
+                    .orderItem(orderItem)
+                    .item(itemRepository.getReferenceById(key.itemId()))
+                    .color(variant ? key.color() : null)
+                    .size(variant ? key.size() : null)
+                    .quantity(quantity)
+                    .status(ReservationStatus.RESERVED)
+                    .expiresAt(expiresAt)
+                    .build());
+        });
+        stockReservationRepository.saveAll(reservations);
+        itemQuantities.keySet().forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.stats(itemId)));
+    }
+
+    /**
+     * 옵션 재고 차감 (재고 단위 순서) - 상품 재고보다 먼저 잠금
+     * 잠금 순서를 "옵션 재고 행 전체 -> 상품 행"으로 고정해 같은 상품의 옵션 여러 개를 담은 주문끼리도 교착 상태 없음
+     * 옵션별 재고 관리 여부는 노드마다 다를 수 있는 캐시 대신 DB 기준 (옵션 재고 차감이 0건이고 옵션 재고 행이 없을 때만 상품 재고만)
+     * @return 옵션 재고를 차감한 재고 단위
+     */
+    private Set<StockKey> decreaseVariants(Map<StockKey, Integer> sorted) {
+        Set<StockKey> variantKeys = new HashSet<>();
+        sorted.forEach((key, quantity) -> {
+            if (!key.hasOption()) return;
+            if (itemVariantStockRepository.decreaseStock(key.itemId(), key.color(), key.size(), quantity) == 1) {
+                variantKeys.add(key);
+            } else if (itemVariantStockRepository.existsByItemId(key.itemId())) {
+                throw new RuntimeException("재고가 부족합니다. itemId: " + key.itemId() + " (" + key.color() + "/" + key.size() + ")");
+            }
+        });
+        return variantKeys;
+    }
+
+    /**
+     * 상품별 수량 합계 (상품 ID 순) - 상품 행은 상품마다 한 번만 갱신
+     */
+    private static Map<Long, Integer> sumByItem(Map<StockKey, Integer> quantities) {
+        Map<Long, Integer> itemQuantities = new TreeMap<>();
+        quantities.forEach((key, quantity) -> itemQuantities.merge(key.itemId(), quantity, Integer::sum));
+        return itemQuantities;
+    }
+
+    /**
+     * 재고 복구 - 차감과 같은 잠금 순서 (옵션 재고 행 -> 상품 행, 상품마다 합계로 한 번)
+     */
+    private void increase(List<StockReservation> reservations) {
+        Map<StockKey, Integer> quantities = toStockQuantities(reservations);
+        quantities.forEach((key, quantity) -> {
+            if (key.hasOption()) {
+                itemVariantStockRepository.increaseStock(key.itemId(), key.color(), key.size(), quantity);
+            }
+        });
+        sumByItem(quantities).forEach(itemRepository::increaseStock);
+    }
+
+    private static Map<StockKey, Integer> toStockQuantities(List<StockReservation> reservations) {
+        Map<StockKey, Integer> quantities = new TreeMap<>();
+        for (StockReservation reservation : reservations) {
+            quantities.merge(new StockKey(reservation.getItem().getId(), reservation.getColor(), reservation.getSize()),
+                    reservation.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 결제 승인 요청 전 확인 - 만료되었거나 해제된 예약이 있으면 결제를 진행하지 않음
+     */
+    @Transactional(readOnly = true)
+    public void checkReserved(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StockReservation reservation : stockReservationRepository.findAllByOrderId(orderId)) {
+            if (reservation.getStatus() == ReservationStatus.CONFIRMED) continue;
+            if (reservation.getStatus() != ReservationStatus.RESERVED || reservation.getExpiresAt().isBefore(now)) {
+                throw new RuntimeException("재고 예약 시간이 만료되었습니다. 다시 주문해 주세요.");
+            }
+        }
+    }
+
+    /**
+     * 결제 승인 후 예약 확정 (이미 확정된 예약은 그대로 - 중복 호출 안전)
+     * 승인 직전에 만료 정리로 해제된 예약은 재고를 다시 차감해서 확정, 부족하면 예외 (전체 롤백)
+     */
+    @Transactional
+    public void confirm(Long orderId) {
+        List<StockReservation> reacquire = new ArrayList<>();
+        for (StockReservation reservation : sortByStockKey(stockReservationRepository.findAllByOrderId(orderId))) {
+            if (reservation.getStatus() == ReservationStatus.CONFIRMED) continue;
+            if (stockReservationRepository.changeStatus(reservation.getId(),
+                    ReservationStatus.RESERVED, ReservationStatus.CONFIRMED) == 1) continue;
+            reacquire.add(reservation);
+        }
+        if (reacquire.isEmpty()) return;
+
+        // 예약과 같은 잠금 순서로 다시 차감 (옵션 재고 행 -> 상품 행)
+        Map<StockKey, Integer> quantities = toStockQuantities(reacquire);
+        quantities.forEach((key, quantity) -> {
+            if (key.hasOption()
+                    && itemVariantStockRepository.decreaseStock(key.itemId(), key.color(), key.size(), quantity) == 0) {
+                throw new RuntimeException("재고가 부족해 결제를 확정할 수 없습니다. itemId: " + key.itemId());
+            }
+        });
+        Map<Long, Integer> itemQuantities = sumByItem(quantities);
+        itemQuantities.forEach((itemId, quantity) -> {
+            if (itemRepository.decreaseStock(itemId, quantity) == 0) {
+                throw new RuntimeException("재고가 부족해 결제를 확정할 수 없습니다. itemId: " + itemId);
+            }
+        });
+        for (StockReservation reservation : reacquire) {
+            stockReservationRepository.changeStatus(reservation.getId(),
+                    ReservationStatus.RELEASED, ReservationStatus.CONFIRMED);
+        }
+        itemQuantities.keySet().forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.stats(itemId)));
+    }
+
+    /**
+     * 주문 취소 - 예약/확정된 재고를 복구 (주문 상태 전이와 같은 트랜잭션)
+     * RESERVED/CONFIRMED일 때만 RELEASED로 바꾸고 복구하므로 중복 취소, 만료 정리와 겹쳐도 한 번만 복구
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long orderId) {
+        List<StockReservation> released = new ArrayList<>();
+        for (StockReservation reservation : sortByStockKey(stockReservationRepository.findAllByOrderId(orderId))) {
+            if (stockReservationRepository.changeStatus(reservation.getId(),
+                            ReservationStatus.RESERVED, ReservationStatus.RELEASED) == 1
+                    || stockReservationRepository.changeStatus(reservation.getId(),
+                            ReservationStatus.CONFIRMED, ReservationStatus.RELEASED) == 1) {
+                released.add(reservation);
+            }
+        }
+        if (released.isEmpty()) return;
+
+        increase(released);
+        released.stream()
+                .map(reservation -> reservation.getItem().getId())
+                .distinct()
+                .forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.stats(itemId)));
+    }
+
+    /**
+     * 결제 승인이 오지 않은 만료 예약 해제
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval-ms:60000}")
+    public void releaseExpired() {
+        int released = 0;
+        while (true) {
+            List<StockReservation> expired = stockReservationRepository.findExpired(
+                    ReservationStatus.RESERVED, LocalDateTime.now(), PageRequest.of(0, RELEASE_BATCH_SIZE));
+            int releasedInBatch = 0;
+            for (StockReservation reservation : sortByStockKey(expired)) {
+                if (release(reservation)) releasedInBatch++;
+            }
+            released += releasedInBatch;
+            // 마지막 배치이거나 더 이상 해제할 수 없으면 종료
+            if (expired.size() < RELEASE_BATCH_SIZE || releasedInBatch == 0) break;
+        }
+        if (released > 0) {
+            log.info("만료된 재고 예약 해제: {}건", released);
+        }
+    }
+
+    /**
+     * 예약 하나를 해제하고 재고 복구 - RESERVED 상태일 때만 (다른 서버와 동시에 실행되어도 한 번만 복구)
+     */
+    private boolean release(StockReservation reservation) {
+        Long itemId = reservation.getItem().getId();
+        try {
+            Boolean released = transactionTemplate.execute(status -> {
+                if (stockReservationRepository.changeStatus(reservation.getId(),
+                        ReservationStatus.RESERVED, ReservationStatus.RELEASED) == 0) {
+                    return false;
+                }
+                increase(List.of(reservation));
+                return true;
+            });
+            if (Boolean.TRUE.equals(released)) {
+                eventPublisher.publishEvent(ItemChangedEvent.stats(itemId));
+                return true;
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 예약 해제 실패: reservationId={}", reservation.getId(), e);
+        }
+        return false;
+    }
+
+    private static List<StockReservation> sortByStockKey(List<StockReservation> reservations) {
+        List<StockReservation> sorted = new ArrayList<>(reservations);
+        sorted.sort(Comparator.comparing((StockReservation reservation) ->
+                new StockKey(reservation.getItem().getId(), reservation.getColor(), reservation.getSize()))
+                .thenComparing(StockReservation::getId));
+        return sorted;
+    }
+}
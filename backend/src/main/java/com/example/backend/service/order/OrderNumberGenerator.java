@@ -0,0 +1,169 @@
+package com.example.backend.service.order;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.repository.NumberSequenceRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 번호(토스 orderId) 발급
+ * - HiLo: NumberSequence(number_sequence) 테이블에서 blockSize개 단위로 블록을 받아오고, 블록 안에서는 AtomicLong으로 발급 (주문마다 DB 접근 없음)
+ * - 블록은 노드마다 겹치지 않으므로 여러 서버에서 동시에 발급해도 중복 없음
+ * - 남은 번호가 블록의 10%가 되면 다음 블록을 백그라운드 스레드에서 미리 할당 -> 블록 경계에서 요청 스레드가 DB를 기다리지 않음
+ *   (블록 할당은 별도 커넥션을 쓰므로 주문 트랜잭션 밖에서 발급할 것 - OrderController)
+ * - 형식: 발급 시각(초, 36진수 6자리) + 일련번호(36진수 8자리), 예: "0T3K9Z000012AB"
+ *   고정 길이라 문자열 정렬 = 발급 시각 순 (같은 초 안에서는 일련번호 순)
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    public static final String SEQUENCE_NAME = "order_number";
+
+    // 2025-01-01T00:00:00Z 기준 초 (36진수 6자리로 약 69년)
+    private static final long EPOCH_SECONDS = 1_735_689_600L;
+    private static final int TIME_LENGTH = 6;
+    private static final int SEQUENCE_LENGTH = 8;
+
+    private final LongSupplier hiAllocator;
+    private final long blockSize;
+    private final Clock clock;
+    // 남은 번호가 이 개수가 되면 다음 블록 미리 할당
+    private final long prefetchAt;
+    private final Executor prefetchExecutor;
+
+    // 현재 블록 - 소진되면 새 블록으로 교체 (교체만 동기화)
+    private volatile Block block;
+    // 미리 할당한(또는 할당 중인) 다음 블록의 hi
+    private volatile CompletableFuture<Long> prefetched;
+
+    @Autowired
+    public OrderNumberGenerator(NumberSequenceRepository numberSequenceRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${order-number.block-size:100}") int blockSize) {
+        this(databaseAllocator(numberSequenceRepository, transactionManager), blockSize, Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "order-number-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    OrderNumberGenerator(LongSupplier hiAllocator, int blockSize, Clock clock, Executor prefetchExecutor) {
+        this.hiAllocator = hiAllocator;
+        this.blockSize = Math.max(blockSize, 1);
+        this.clock = clock;
+        this.prefetchAt = this.blockSize / 10;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (prefetchExecutor instanceof ExecutorService executorService) executorService.shutdownNow();
+    }
+
+    public String next() {
+        return format(Instant.now(clock).getEpochSecond(), nextSequence());
+    }
+
+    long nextSequence() {
+        while (true) {
+            Block current = block;
+            if (current != null) {
+                long value = current.next.getAndIncrement();
+                if (value < current.end) {
+                    // 블록마다 남은 개수가 정확히 prefetchAt이 되는 스레드 하나만 호출
+                    if (current.end - value - 1 == prefetchAt) prefetch();
+                    return value;
+                }
+            }
+            refill(current);
+        }
+    }
+
+    private void prefetch() {
+        prefetched = CompletableFuture.supplyAsync(hiAllocator::getAsLong, prefetchExecutor);
+    }
+
+    // 먼저 교체한 스레드가 있으면 그 블록을 그대로 사용
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) return;
+        long start = Math.multiplyExact(nextHi(), blockSize);
+        block = new Block(start, start + blockSize);
+    }
+
+    // 미리 할당한 블록이 있으면 사용 (아직 할당 중이면 완료까지 대기), 없거나 실패했으면 직접 할당
+    private long nextHi() {
+        CompletableFuture<Long> next = prefetched;
+        prefetched = null;
+        if (next != null) {
+            try {
+                return next.join();
+            } catch (RuntimeException e) {
+                log.warn("주문 번호 블록 미리 할당 실패, 직접 할당", e);
+            }
+        }
+        return hiAllocator.getAsLong();
+    }
+
+    static String format(long epochSecond, long sequence) {
+        return pad(Long.toString(Math.max(epochSecond - EPOCH_SECONDS, 0L), 36), TIME_LENGTH)
+                + pad(Long.toString(sequence, 36), SEQUENCE_LENGTH);
+    }
+
+    private static String pad(String value, int length) {
+        String upper = value.toUpperCase();
+        if (upper.length() >= length) return upper;
+        return "0".repeat(length - upper.length()) + upper;
+    }
+
+    /**
+     * 블록 할당 - 주문 트랜잭션과 분리된 새 트랜잭션에서 바로 커밋 (주문이 롤백돼도 블록은 반납하지 않음, 번호 공백 허용)
+     */
+    private static LongSupplier databaseAllocator(NumberSequenceRepository repository,
+            PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return () -> {
+            while (true) {
+                Long hi = transactionTemplate.execute(status -> repository.increment(SEQUENCE_NAME) == 0
+                        ? null : repository.findNextHi(SEQUENCE_NAME) - 1);
+                if (hi != null) return hi;
+                try {
+                    // 첫 할당 - 다른 노드가 먼저 만들었으면 무시하고 다시 증가
+                    transactionTemplate.executeWithoutResult(status -> repository.create(SEQUENCE_NAME));
+                } catch (DataIntegrityViolationException e) {
+                    // 이미 존재
+                }
+            }
+        };
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
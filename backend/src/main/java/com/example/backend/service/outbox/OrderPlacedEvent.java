@@ -0,0 +1,9 @@
+package com.example.backend.service.outbox;
+
+/**
+ * 주문 생성 이벤트 (아웃박스 payload)
+ */
+public record OrderPlacedEvent(Long orderId, Long userId, Integer totalPrice, Integer lineCount) {
+
+    public static final String TYPE = "ORDER_PLACED";
+}
@@ -0,0 +1,31 @@
+package com.example.backend.service.outbox;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 생성 이벤트 기록 (주문 통계 수집용 로그)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderPlacedLogHandler implements OutboxHandler {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return OrderPlacedEvent.TYPE;
+    }
+
+    @Override
+    public void handle(String aggregateId, String payload) throws Exception {
+        OrderPlacedEvent event = objectMapper.readValue(payload, OrderPlacedEvent.class);
+        log.info("주문 생성: orderId={}, userId={}, totalPrice={}, lineCount={}",
+                event.orderId(), event.userId(), event.totalPrice(), event.lineCount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.backend.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.outbox.OutboxEvent;
+import com.example.backend.entity.outbox.OutboxStatus;
+import com.example.backend.repository.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 디스패처
+ * - 주기적으로 전달할 이벤트를 묶음 단위로 점유(claimToken)해서 eventType에 맞는 핸들러로 전달
+ * - 점유는 조건부 UPDATE라 여러 노드가 동시에 돌아도 한 이벤트는 한 노드만 가져감, 노드가 죽으면 점유 만료 후 다시 전달
+ * - 실패하면 지수 백오프로 재시도, 최대 횟수를 넘으면 FAILED (점유 만료 후 다시 가져가는 것도 시도 횟수에 포함)
+ * - 한 이벤트의 핸들러들은 순서대로 실행하고 완료 여부는 이벤트 단위로만 기록
+ *   (뒤 핸들러가 실패하면 앞 핸들러도 다시 실행되므로 핸들러는 멱등해야 함 - OutboxHandler 참고)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+    private static final String LEASE_EXPIRED_ERROR = "점유 만료 (처리 중 노드 중단 또는 처리 시간 초과)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<OutboxHandler>> handlers = new HashMap<>();
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    // 점유 시간 - 한 묶음을 처리하는 데 걸리는 시간보다 길게
+    @Value("${outbox.lock-seconds:60}")
+    private long lockSeconds;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${outbox.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, TransactionTemplate transactionTemplate,
+            List<OutboxHandler> handlerBeans) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        handlerBeans.forEach(handler ->
+                handlers.computeIfAbsent(handler.eventType(), key -> new ArrayList<>()).add(handler));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        // 한 주기에 여러 묶음 - 밀린 이벤트가 많으면 비울 때까지 계속
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            List<OutboxEvent> events = claim(token);
+            if (events.isEmpty()) return;
+
+            events.forEach(event -> deliver(event, token));
+            if (events.size() < batchSize) return;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 이벤트 삭제 (매일 새벽)
+     */
+    @Scheduled(cron = "${outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(OutboxStatus.DONE, before));
+        log.info("완료된 아웃박스 이벤트 정리: {}건", deleted);
+    }
+
+    private List<OutboxEvent> claim(String token) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = outboxEventRepository.failExpired(OutboxStatus.PROCESSING, OutboxStatus.FAILED, now,
+                    maxAttempts, LEASE_EXPIRED_ERROR);
+            if (expired > 0) {
+                log.error("아웃박스 이벤트 전달 포기 (점유 만료 {}회 이상): {}건", maxAttempts, expired);
+            }
+            List<Long> ids = outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING, now,
+                    PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return List.of();
+
+            int claimed = outboxEventRepository.claim(ids, token, now.plusSeconds(lockSeconds),
+                    OutboxStatus.PENDING, OutboxStatus.PROCESSING, now);
+            if (claimed == 0) return List.of();
+            return outboxEventRepository.findAllByClaimTokenOrderByIdAsc(token);
+        });
+    }
+
+    private void deliver(OutboxEvent event, String token) {
+        try {
+            for (OutboxHandler handler : handlers.getOrDefault(event.getEventType(), List.of())) {
+                handler.handle(event.getAggregateId(), event.getPayload());
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markDone(event.getId(), token, OutboxStatus.DONE, LocalDateTime.now()));
+        } catch (Exception e) {
+            int attempts = event.getAttempts() + 1;
+            boolean giveUp = attempts >= maxAttempts;
+            if (giveUp) {
+                log.error("아웃박스 이벤트 전달 포기: id={}, type={}, attempts={}", event.getId(), event.getEventType(), attempts, e);
+            } else {
+                log.warn("아웃박스 이벤트 전달 실패, 재시도 예정: id={}, type={}, attempts={}", event.getId(), event.getEventType(), attempts, e);
+            }
+            String error = String.valueOf(e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markFailed(event.getId(), token,
+                    giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                    LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000L),
+                    error.length() > ERROR_MESSAGE_LENGTH ? error.substring(0, ERROR_MESSAGE_LENGTH) : error));
+        }
+    }
+
+    // 1s, 2s, 4s ... 최대 backoffMaxMs
+    private long backoffMillis(int attempts) {
+        long delay = backoffBaseMs << Math.min(attempts - 1, 20);
+        return Math.min(delay, backoffMaxMs);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.service.outbox;
+
+/**
+ * 아웃박스 이벤트 핸들러 (빈으로 등록하면 디스패처가 eventType별로 전달)
+ * 전달은 최소 한 번(at-least-once) - 같은 이벤트가 다시 올 수 있으므로 멱등하게 구현
+ * - 같은 eventType의 핸들러가 여럿이면 완료 여부를 이벤트 단위로만 기록하므로, 다른 핸들러가 실패해도
+ *   이미 성공한 핸들러까지 다시 호출됨
+ * - 처리 중 점유가 만료되면 다른 노드가 같은 이벤트를 동시에 전달할 수 있음
+ */
+public interface OutboxHandler {
+
+    /**
+     * 처리할 이벤트 종류 (OutboxService.publish의 eventType)
+     */
+    String eventType();
+
+    /**
+     * 실패 시 예외 - 디스패처가 백오프 후 다시 전달
+     * @param payload 이벤트 JSON
+     */
+    void handle(String aggregateId, String payload) throws Exception;
+}
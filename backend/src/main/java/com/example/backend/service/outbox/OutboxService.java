@@ -0,0 +1,48 @@
+package com.example.backend.service.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.entity.outbox.OutboxEvent;
+import com.example.backend.entity.outbox.OutboxStatus;
+import com.example.backend.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출한 트랜잭션 안에서 insert 한 번만 수행 - 후속 작업(핸들러)이 늘어나도 요청 처리 시간은 그대로
+ */
+@RequiredArgsConstructor
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 업무 데이터와 같은 트랜잭션에서만 호출 (롤백되면 이벤트도 함께 취소)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, Object aggregateId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId(String.valueOf(aggregateId))
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .status(OutboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트를 직렬화할 수 없습니다: " + eventType, e);
+        }
+    }
+}
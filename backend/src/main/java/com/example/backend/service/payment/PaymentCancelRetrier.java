@@ -0,0 +1,48 @@
+package com.example.backend.service.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 취소 대기(CANCEL_PENDING) 결제의 PG 취소 재시도
+ * - 승인 후 재고 확정에 실패했는데 즉시 보낸 PG 취소도 실패(타임아웃, 5xx, 서킷 차단, 서버 중단)한 결제
+ * - 취소 요청은 같은 멱등키로 보내므로 즉시 취소와 겹쳐도 PG에서 한 번만 취소
+ * - 실패하면 상태를 그대로 두고 점유 시각이 지난 뒤 다음 실행에서 다시 시도
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PaymentCancelRetrier {
+
+    // 토스 오류 코드 - 이미 취소된 결제 (응답을 받기 전에 끊긴 취소 요청이 실제로는 처리된 경우)
+    private static final String ALREADY_CANCELED = "ALREADY_CANCELED_PAYMENT";
+
+    private final PaymentService paymentService;
+    private final TossPaymentClient tossPaymentClient;
+
+    @Value("${payment.cancel-retry.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${payment.cancel-retry.interval-ms:60000}")
+    public void retryPendingCancels() {
+        for (PaymentService.PendingCancel pending : paymentService.claimPendingCancels(batchSize)) {
+            try {
+                tossPaymentClient.cancel(pending.paymentKey(), PaymentService.STOCK_CANCEL_REASON).block();
+            } catch (TossPaymentException e) {
+                if (!ALREADY_CANCELED.equals(e.getCode())) {
+                    log.error("결제 취소 재시도 실패: orderId={}, {} ({})", pending.orderId(), e.getMessage(), e.getCode());
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                log.error("결제 취소 재시도 실패: orderId={}", pending.orderId(), e);
+                continue;
+            }
+            paymentService.cancelRequested(pending.orderId());
+            log.info("결제 취소 재시도 성공: orderId={}", pending.orderId());
+        }
+    }
+}
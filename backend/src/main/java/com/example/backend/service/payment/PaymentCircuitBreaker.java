@@ -0,0 +1,82 @@
+package com.example.backend.service.payment;
+
+import java.time.Clock;
+
+/**
+ * 결제 API 호출용 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 대기 시간 동안 외부 호출 없이 즉시 실패 (느린 PG 응답이 요청 스레드를 붙잡지 않도록)
+ * - HALF_OPEN: 대기 시간이 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * 카드 거절 같은 4xx 업무 오류는 실패로 세지 않음 (호출하는 쪽에서 onSuccess 처리)
+ */
+public class PaymentCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0L;
+    private boolean trialInFlight = false;
+
+    public PaymentCircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, Clock.systemUTC());
+    }
+
+    PaymentCircuitBreaker(int failureThreshold, long openDurationMillis, Clock clock) {
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationMillis = Math.max(openDurationMillis, 0L);
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 - false면 외부 호출 없이 실패 처리해야 함
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.millis() - openedAt < openDurationMillis) return false;
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN: 시험 호출이 끝나기 전까지 나머지는 차단
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출(요청 취소) - 시험 호출 자리만 반납
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.backend.service.payment;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.entity.item.enums.OrderStatus;
+import com.example.backend.entity.item.enums.PaymentStatus;
+import com.example.backend.entity.item.utility.OrderItem;
+import com.example.backend.entity.item.utility.Payment;
+import com.example.backend.repository.item.OrderItemRepository;
+import com.example.backend.repository.item.PaymentRepository;
+import com.example.backend.service.OrderService;
+import com.example.backend.service.inventory.StockReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 원장 관리
+ * - 승인 요청 전 begin: 금액/재고 예약 검증 + 원장 등록/점유, 이미 승인된 결제면 PG 호출 없이 원장으로 응답
+ * - PG 응답 후 approve / fail / release 로 상태 전이, 주문 상태(OrderStatus)도 같은 트랜잭션에서 전이
+ * - 승인 후 로컬 처리에 실패한 결제는 PG 취소 전에 CANCEL_PENDING으로 기록, 취소가 실패하면 PaymentCancelRetrier가 재시도
+ * - 결제 취소로 주문이 취소되면 재고 예약도 같은 트랜잭션에서 복구
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PaymentService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final StockReservationService stockReservationService;
+    private final OrderService orderService;
+
+    public static final String STOCK_CANCEL_REASON = "재고 부족";
+
+    // 승인/취소 요청 점유 시간 - PG 타임아웃 x 재시도보다 길게
+    @Value("${payment.confirm-lock-seconds:60}")
+    private long confirmLockSeconds;
+
+    /**
+     * begin 결과
+     * @param approved 이미 승인된 결제 (null이면 PG 승인 요청 필요)
+     */
+    public record Attempt(Long orderItemId, Payment approved) {
+
+        public boolean alreadyApproved() {
+            return approved != null;
+        }
+    }
+
+    /**
+     * PG 취소 재시도 대상
+     */
+    public record PendingCancel(String orderId, String paymentKey) {
+    }
+
+    /**
+     * 승인 요청 등록
+     * - 주문 금액과 요청 금액이 다르면 PG 호출 전에 거절
+     * - 같은 결제의 중복 요청: 승인 완료면 원장 응답, 처리 중이면 예외, 거절된 결제면 원장의 실패 사유로 예외
+     */
+    @Transactional
+    public Attempt begin(String paymentKey, String orderId, int amount) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plusSeconds(confirmLockSeconds);
+
+        Payment payment = paymentRepository.findByOrderId(orderId).orElse(null);
+        if (payment == null) {
+            OrderItem orderItem = orderItemRepository.findByOrderNumber(orderId)
+                    .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없습니다."));
+            Long orderItemId = orderItem.getId();
+            verifyAmount(orderItem.getPaymentAmount(), amount);
+            if (orderItem.getStatus() != null && orderItem.getStatus() != OrderStatus.PENDING_PAYMENT) {
+                throw new RuntimeException("결제할 수 없는 주문입니다.");
+            }
+            try {
+                paymentRepository.saveAndFlush(Payment.builder()
+                        .orderId(orderId)
+                        .paymentKey(paymentKey)
+                        .orderItem(orderItem)
+                        .amount(amount)
+                        .status(PaymentStatus.REQUESTED)
+                        .lockedUntil(lockedUntil)
+                        .requestedAt(now)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 주문의 승인 요청이 동시에 들어와 먼저 등록된 경우
+                throw new RuntimeException("결제를 처리하고 있습니다. 잠시 후 주문 내역을 확인해 주세요.");
+            }
+            stockReservationService.checkReserved(orderItemId);
+            return new Attempt(orderItemId, null);
+        }
+
+        Long orderItemId = payment.getOrderItem().getId();
+        verifyAmount(payment.getAmount(), amount);
+        boolean samePaymentKey = paymentKey.equals(payment.getPaymentKey());
+        switch (payment.getStatus()) {
+            case APPROVED:
+                if (!samePaymentKey) throw new RuntimeException("이미 결제가 완료된 주문입니다.");
+                return new Attempt(orderItemId, payment);
+            case CANCELED:
+            case CANCEL_PENDING:
+                throw new RuntimeException("취소된 결제입니다.");
+            case FAILED:
+                if (samePaymentKey) {
+                    throw new RuntimeException(payment.getFailureMessage() != null
+                            ? payment.getFailureMessage() : "결제 승인이 거절되었습니다.");
+                }
+                if (paymentRepository.retryFailed(payment.getId(), paymentKey, now, lockedUntil) == 0) {
+                    throw new RuntimeException("결제를 처리하고 있습니다. 잠시 후 주문 내역을 확인해 주세요.");
+                }
+                stockReservationService.checkReserved(orderItemId);
+                return new Attempt(orderItemId, null);
+            default:
+                // REQUESTED: 다른 요청이 PG 응답을 기다리는 중이거나, 결과를 모르는 채로 끝난 결제 (같은 멱등키로 재요청)
+                if (!samePaymentKey
+                        || paymentRepository.acquireLock(payment.getId(), PaymentStatus.REQUESTED, now, lockedUntil) == 0) {
+                    throw new RuntimeException("결제를 처리하고 있습니다. 잠시 후 주문 내역을 확인해 주세요.");
+                }
+                stockReservationService.checkReserved(orderItemId);
+                return new Attempt(orderItemId, null);
+        }
+    }
+
+    /**
+     * PG 승인 성공 - 원장 승인 처리, 재고 예약 확정, 주문 결제 완료(PENDING_PAYMENT -> PAID)를 한 트랜잭션으로
+     * (재고 확정 실패 또는 그 사이 주문이 취소된 경우 원장도 REQUESTED 유지)
+     */
+    @Transactional
+    public Payment approve(String orderId, Long orderItemId, Map<String, Object> response) {
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다."));
+        stockReservationService.confirm(orderItemId);
+        orderService.changeStatus(orderItemId, OrderStatus.PAID);
+        Object approvedAt = response.get("approvedAt");
+        payment.approve(
+                response.get("orderName") != null ? String.valueOf(response.get("orderName")) : null,
+                response.get("method") != null ? String.valueOf(response.get("method")) : null,
+                approvedAt != null ? OffsetDateTime.parse(String.valueOf(approvedAt)) : null);
+        return payment;
+    }
+
+    /**
+     * PG가 승인을 거절 (4xx) - 같은 paymentKey로 다시 요청해도 원장의 실패 사유로 응답
+     */
+    @Transactional
+    public void fail(String orderId, String failureCode, String failureMessage) {
+        paymentRepository.findByOrderId(orderId).ifPresent(payment -> payment.fail(failureCode, failureMessage));
+    }
+
+    /**
+     * 승인 후 재고 확정/주문 상태 전이에 실패 - PG 취소 요청 전에 취소 대기로 기록
+     * (취소 요청이 실패하거나 응답 전에 서버가 중단되어도 점유 시각이 지나면 스케줄러가 다시 취소)
+     */
+    @Transactional
+    public void requestCancel(String orderId, String failureMessage) {
+        paymentRepository.findByOrderId(orderId).ifPresent(payment -> {
+            if (payment.getStatus() == PaymentStatus.REQUESTED) {
+                payment.requestCancel(failureMessage, LocalDateTime.now().plusSeconds(confirmLockSeconds));
+            }
+        });
+    }
+
+    /**
+     * 승인 후 재고 확정/주문 상태 전이에 실패해 PG 결제를 취소한 경우
+     * (요청 처리와 스케줄러 재시도가 모두 성공해도 한 번만 처리)
+     */
+    @Transactional
+    public void cancelRequested(String orderId) {
+        paymentRepository.findByOrderId(orderId).ifPresent(payment -> {
+            if (payment.getStatus() == PaymentStatus.CANCELED) return;
+            payment.cancel();
+            cancelOrder(payment);
+        });
+    }
+
+    /**
+     * 점유 시각이 지난 취소 대기 결제를 점유해서 반환 (여러 서버가 동시에 실행해도 결제마다 하나만 점유)
+     */
+    @Transactional
+    public List<PendingCancel> claimPendingCancels(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plusSeconds(confirmLockSeconds);
+        List<PendingCancel> claimed = new ArrayList<>();
+        for (Payment payment : paymentRepository.findUnlocked(PaymentStatus.CANCEL_PENDING, now, PageRequest.of(0, limit))) {
+            PendingCancel pending = new PendingCancel(payment.getOrderId(), payment.getPaymentKey());
+            if (paymentRepository.acquireLock(payment.getId(), PaymentStatus.CANCEL_PENDING, now, lockedUntil) == 1) {
+                claimed.add(pending);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 결제 취소 가능 여부 - PG 취소 요청 전에 확인 (배송이 시작된 주문은 취소 불가)
+     */
+    @Transactional(readOnly = true)
+    public void checkCancelable(String paymentKey) {
+        paymentRepository.findByPaymentKey(paymentKey).ifPresent(payment -> {
+            OrderStatus status = payment.getOrderItem().getStatus();
+            if (status != null && status != OrderStatus.CANCELED && !status.canTransitionTo(OrderStatus.CANCELED)) {
+                throw new RuntimeException("배송이 시작된 주문은 취소할 수 없습니다.");
+            }
+        });
+    }
+
+    /**
+     * 결제 취소 (승인된 결제)
+     */
+    @Transactional
+    public void cancelApproved(String paymentKey) {
+        paymentRepository.findByPaymentKey(paymentKey).ifPresent(payment -> {
+            if (payment.getStatus().canTransitionTo(PaymentStatus.CANCELED)) payment.cancel();
+            cancelOrder(payment);
+        });
+    }
+
+    // PG 취소가 끝난 뒤라 주문 상태 전이가 불가능해도(이미 배송 시작 등) 원장 취소는 유지
+    // 주문이 취소로 전이된 경우에만 같은 트랜잭션에서 재고 복구 (배송이 시작된 주문의 재고는 그대로)
+    private void cancelOrder(Payment payment) {
+        Long orderItemId = payment.getOrderItem().getId();
+        if (orderItemRepository.changeStatus(orderItemId, OrderStatus.PENDING_PAYMENT, OrderStatus.CANCELED) == 0
+                && orderItemRepository.changeStatus(orderItemId, OrderStatus.PAID, OrderStatus.CANCELED) == 0) {
+            log.warn("결제 취소된 주문의 상태를 변경하지 못했습니다: orderItemId={}", orderItemId);
+            return;
+        }
+        stockReservationService.release(orderItemId);
+    }
+
+    /**
+     * PG 결과를 알 수 없음 (타임아웃, 5xx, 서킷 차단) - 원장은 REQUESTED로 두고 점유만 해제
+     */
+    @Transactional
+    public void release(String orderId) {
+        paymentRepository.releaseLock(orderId, PaymentStatus.REQUESTED);
+    }
+
+    /**
+     * 승인 응답 - 원장 기준
+     */
+    public static Map<String, Object> toResult(Payment payment) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("paymentKey", payment.getPaymentKey());
+        result.put("orderId", payment.getOrderId());
+        result.put("amount", payment.getAmount());
+        result.put("orderName", payment.getOrderName());
+        result.put("method", payment.getMethod());
+        result.put("approvedAt", payment.getApprovedAt());
+        result.put("status", "DONE");
+        return result;
+    }
+
+    private static void verifyAmount(int expected, int amount) {
+        if (expected != amount) {
+            throw new RuntimeException("결제 금액이 주문 금액과 일치하지 않습니다.");
+        }
+    }
+}
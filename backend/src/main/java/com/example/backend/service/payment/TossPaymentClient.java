@@ -0,0 +1,183 @@
+package com.example.backend.service.payment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+/**
+ * 토스페이먼츠 결제 승인/취소 API 클라이언트
+ * - 커넥션 풀을 쓰는 논블로킹 WebClient(reactor-netty) - 요청마다 연결을 새로 맺지 않고, PG 응답을 기다리는 동안 Tomcat 스레드를 잡지 않음
+ * - 연결/응답 타임아웃 상한, 일시적 오류(응답 없음, 5xx, 429)만 지수 백오프로 제한 횟수 재시도
+ * - 재시도와 중복 요청이 이중 승인/취소가 되지 않도록 요청 내용으로 만든 Idempotency-Key 헤더 전송
+ * - 연속 실패 시 서킷 브레이커가 열려 대기 시간 동안 PG를 호출하지 않고 바로 실패
+ */
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final Duration readTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public TossPaymentClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${toss.payments.base-url:https://api.tosspayments.com}") String baseUrl,
+            @Value("${toss.payments.secret-key:test_gck_docs_Ovk5rk1EwkEbP0W43n07xlzm}") String secretKey,
+            @Value("${toss.payments.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${toss.payments.read-timeout-ms:15000}") long readTimeoutMs,
+            @Value("${toss.payments.max-connections:50}") int maxConnections,
+            @Value("${toss.payments.max-retries:2}") int maxRetries,
+            @Value("${toss.payments.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${toss.payments.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${toss.payments.circuit.open-duration-ms:30000}") long openDurationMs
+    ) {
+        this.connectionProvider = ConnectionProvider.builder("toss-payments")
+                .maxConnections(maxConnections)
+                // 풀이 가득 찼을 때 연결을 기다리는 시간도 제한
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        String credentials = Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        this.circuitBreaker = new PaymentCircuitBreaker(failureThreshold, openDurationMs);
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.retryBackoff = Duration.ofMillis(Math.max(retryBackoffMs, 1L));
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * 결제 승인 - 성공 시 토스 Payment 객체
+     */
+    public Mono<Map<String, Object>> confirm(String paymentKey, String orderId, int amount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+        return post("/v1/payments/confirm",
+                idempotencyKey("confirm", paymentKey, orderId, String.valueOf(amount)), body);
+    }
+
+    /**
+     * 결제 전액 취소 - 성공 시 토스 Payment 객체
+     */
+    public Mono<Map<String, Object>> cancel(String paymentKey, String cancelReason) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cancelReason", cancelReason);
+        return post("/v1/payments/{paymentKey}/cancel",
+                idempotencyKey("cancel", paymentKey), body, paymentKey);
+    }
+
+    public PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Mono<Map<String, Object>> post(String uri, String idempotencyKey, Map<String, Object> body, Object... uriVariables) {
+        Mono<Map<String, Object>> attempt = Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(new TossPaymentException(0, TossPaymentException.CIRCUIT_OPEN,
+                        "결제 서버 응답 지연으로 잠시 후 다시 시도해 주세요."));
+            }
+            return webClient.post()
+                    .uri(uri, uriVariables)
+                    .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .bodyValue(body)
+                    .exchangeToMono(this::readResponse)
+                    .timeout(readTimeout)
+                    .onErrorMap(e -> !(e instanceof TossPaymentException), this::toNetworkError)
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        // 4xx 업무 오류는 PG가 정상 응답한 것이므로 서킷 실패로 세지 않음
+                        if (((TossPaymentException) e).isTransient()) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::release);
+        });
+
+        return attempt.retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                .filter(e -> e instanceof TossPaymentException tossError && tossError.isTransient())
+                .doBeforeRetry(signal -> log.warn("토스페이먼츠 호출 재시도 {}회: {} ({})",
+                        signal.totalRetries() + 1, uri, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<Map<String, Object>> readResponse(ClientResponse response) {
+        Mono<Map<String, Object>> responseBody = response.bodyToMono(MAP_TYPE)
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty(Map.of());
+        if (response.statusCode().is2xxSuccessful()) {
+            return responseBody;
+        }
+        int status = response.statusCode().value();
+        return responseBody.flatMap(error -> Mono.error(new TossPaymentException(status,
+                String.valueOf(error.getOrDefault("code", "HTTP_" + status)),
+                String.valueOf(error.getOrDefault("message", "결제 서버 오류 (" + status + ")")))));
+    }
+
+    private TossPaymentException toNetworkError(Throwable e) {
+        String message = e instanceof TimeoutException
+                ? "결제 서버 응답 시간이 초과되었습니다."
+                : "결제 서버에 연결할 수 없습니다.";
+        return new TossPaymentException(TossPaymentException.NETWORK_ERROR, message, e);
+    }
+
+    /**
+     * 같은 요청은 항상 같은 키 - 재시도나 사용자의 중복 요청을 PG가 한 번으로 처리
+     */
+    private static String idempotencyKey(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
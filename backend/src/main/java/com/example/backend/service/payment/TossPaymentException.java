@@ -0,0 +1,37 @@
+package com.example.backend.service.payment;
+
+import lombok.Getter;
+
+/**
+ * 토스페이먼츠 API 호출 실패
+ * - status: PG 응답 HTTP 상태 (응답을 받지 못했으면 0)
+ * - code: PG 오류 코드 (예: REJECT_CARD_PAYMENT), 타임아웃/연결 실패/서킷 차단은 자체 코드
+ */
+@Getter
+public class TossPaymentException extends RuntimeException {
+
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String NETWORK_ERROR = "NETWORK_ERROR";
+
+    private final int status;
+    private final String code;
+
+    public TossPaymentException(int status, String code, String message) {
+        super(message);
+        this.status = status;
+        this.code = code;
+    }
+
+    public TossPaymentException(String code, String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+        this.code = code;
+    }
+
+    /**
+     * 같은 멱등키로 다시 보내도 되는 일시적 오류인지 (응답 없음, 5xx, 429)
+     */
+    public boolean isTransient() {
+        return status == 0 ? NETWORK_ERROR.equals(code) : status >= 500 || status == 429;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.service.ratelimit;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 실행 수 제한 (벌크헤드)
+ * - 동시에 maxConcurrent개까지 실행, 초과분은 최대 maxWaiting개까지 maxWaitMillis 동안 대기
+ * - 대기열이 가득 찼거나 대기 시간이 지나면 바로 거절 -> 외부 API가 느려져도 이 기능이 점유하는 스레드 수가 고정됨
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(int maxConcurrent, int maxWaiting, long maxWaitMillis) {
+        this.maxConcurrent = Math.max(maxConcurrent, 1);
+        this.maxWaiting = Math.max(maxWaiting, 0);
+        this.maxWaitMillis = Math.max(maxWaitMillis, 0L);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+    }
+
+    /**
+     * 실행 허가 - true면 끝난 뒤 반드시 release
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) return true;
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) return true;
+            rejected.increment();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
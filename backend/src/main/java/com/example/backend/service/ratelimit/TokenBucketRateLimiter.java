@@ -0,0 +1,107 @@
+package com.example.backend.service.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트(사용자 ID 또는 IP)별 토큰 버킷
+ * - 버킷마다 최대 capacity개, 분당 refillPerMinute개씩 채워지고 요청마다 1개 소모
+ * - 클라이언트 수가 maxClients를 넘으면 가장 오래 요청이 없던 버킷부터 정리해 maxClients의 90%까지 줄임 (메모리 상한)
+ *   한 번 정리할 때 10%를 비우므로 전체 순회는 새 클라이언트 maxClients / 10명마다 한 번
+ */
+public class TokenBucketRateLimiter {
+
+    private static final double EVICT_TARGET_RATIO = 0.9;
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final int maxClients;
+    private final int evictTarget;
+    private final LongSupplier nanoTime;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock evictLock = new ReentrantLock();
+    private final LongAdder rejected = new LongAdder();
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxClients) {
+        this(capacity, refillPerMinute, maxClients, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxClients, LongSupplier nanoTime) {
+        this.capacity = Math.max(capacity, 1);
+        this.tokensPerNano = Math.max(refillPerMinute, 1) / 60_000_000_000d;
+        this.maxClients = Math.max(maxClients, 1);
+        this.evictTarget = (int) (this.maxClients * EVICT_TARGET_RATIO);
+        this.nanoTime = nanoTime;
+    }
+
+    public boolean tryAcquire(String clientKey) {
+        long now = nanoTime.getAsLong();
+        Bucket bucket = buckets.computeIfAbsent(clientKey, key -> new Bucket(capacity, now));
+        boolean allowed = bucket.tryConsume(now);
+        if (!allowed) rejected.increment();
+        if (buckets.size() > maxClients) evictIdle();
+        return allowed;
+    }
+
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    // 다른 스레드가 정리 중이면 건너뜀 (그 사이 늘어난 버킷은 다음 정리에서)
+    private void evictIdle() {
+        if (!evictLock.tryLock()) return;
+        try {
+            if (buckets.size() <= maxClients) return;
+            // 정렬 중에 요청 시각이 바뀌지 않도록 스냅샷 기준
+            List<Idle> idle = new ArrayList<>(buckets.size());
+            buckets.forEach((key, bucket) -> idle.add(new Idle(key, bucket, bucket.usedAt)));
+            idle.sort(Comparator.comparingLong(Idle::usedAt));
+            int excess = idle.size() - evictTarget;
+            for (int i = 0; i < excess; i++) {
+                buckets.remove(idle.get(i).key(), idle.get(i).bucket());
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    private record Idle(String key, Bucket bucket, long usedAt) {
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+        // 마지막 요청 시각 - 정리 순서 기준
+        private volatile long usedAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+            this.usedAt = now;
+        }
+
+        synchronized boolean tryConsume(long now) {
+            usedAt = now;
+            refill(now);
+            if (tokens < 1) return false;
+            tokens -= 1;
+            return true;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
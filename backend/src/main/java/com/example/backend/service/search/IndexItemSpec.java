@@ -2,6 +2,7 @@ package com.example.backend.service.search;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.domain.Specification;
 
@@ -10,32 +11,77 @@ import com.example.backend.entity.item.utility.CartItem;
 import com.example.backend.entity.item.utility.FavoriteItem;
 import com.example.backend.entity.user.User;
 import com.example.backend.service.search.utility.Filter;
+import com.example.backend.service.search.utility.ItemCursor;
 
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
 public class IndexItemSpec {
 
-    public static Specification<Item> search(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice) {
+    public static Specification<Item> search(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, Set<Long> searchItemIds) {
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            String pattern = "";
-            if (searchTerm != null && !searchTerm.isEmpty()) {
+            // 검색 인덱스에서 찾은 후보 ID가 있으면 ID 조건, 없으면 기존 LIKE 검색
+            if (searchItemIds != null) {
+                Filter.addItemIdPredicate(builder, root, predicates, searchItemIds);
+            } else if (searchTerm != null && !searchTerm.isEmpty()) {
                 String clearSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase();
-                pattern = "%" + clearSearchTerm + "%";
+                String pattern = "%" + clearSearchTerm + "%";
                 Filter.addSearchFieldPredicates(builder, root, predicates, searchField, pattern);
             }
 
             Filter.addCategoryPredicates(builder, root, predicates, majorCategory, middleCategory, subcategory);
-            Filter.addColorPredicate(builder, root, predicates, colors);
-            Filter.addSizePredicate(builder, root, predicates, sizes);
+            Filter.addColorPredicate(builder, query, root, predicates, colors);
+            Filter.addSizePredicate(builder, query, root, predicates, sizes);
             Filter.addPricePredicate(builder, root, predicates, minPrice, maxPrice);
 
-            query.distinct(true);
             return builder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
-    public static Specification<FavoriteItem> searchFavorites(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, User user) {
+    /**
+     * 재고 있는 상품만 (상품 재고 합계 기준, 옵션 재고는 ItemStockCache 후보 ID로 거름)
+     */
+    public static <T> Specification<T> inStock(Boolean inStock) {
+        return (root, query, builder) -> {
+            if (!Boolean.TRUE.equals(inStock)) {
+                return null;
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            Filter.addInStockPredicate(builder, root, predicates);
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 키셋 페이지네이션 seek 조건
+     * DESC: sortKey < value OR (sortKey = value AND id < lastId)
+     * ASC : sortKey > value OR (sortKey = value AND id > lastId)
+     */
+    public static Specification<Item> after(ItemCursor cursor) {
+        return (root, query, builder) -> {
+            if (cursor == null) {
+                return null;
+            }
+            boolean ascending = cursor.direction().isAscending();
+            Path<Long> idPath = root.get("id");
+            Predicate idAfter = ascending
+                    ? builder.greaterThan(idPath, cursor.id())
+                    : builder.lessThan(idPath, cursor.id());
+            if ("id".equals(cursor.sortKey())) {
+                return idAfter;
+            }
+
+            Path<Integer> keyPath = root.get(cursor.sortKey());
+            Integer value = cursor.value().intValue();
+            Predicate keyAfter = ascending
+                    ? builder.greaterThan(keyPath, value)
+                    : builder.lessThan(keyPath, value);
+            return builder.or(keyAfter, builder.and(builder.equal(keyPath, value), idAfter));
+        };
+    }
+
+    public static Specification<FavoriteItem> searchFavorites(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, Set<Long> searchItemIds, User user) {
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -44,23 +90,24 @@ public class IndexItemSpec {
                 predicates.add(builder.equal(root.get("user").get("userId"), user.getUserId()));
             }
 
-            if (searchTerm != null && !searchTerm.isEmpty()) {
+            if (searchItemIds != null) {
+                Filter.addItemIdPredicate(builder, root, predicates, searchItemIds);
+            } else if (searchTerm != null && !searchTerm.isEmpty()) {
                 String clearSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase();
                 String pattern = "%" + clearSearchTerm + "%";
                 Filter.addSearchFieldPredicates(builder, root, predicates, searchField, pattern);
             }
 
             Filter.addCategoryPredicates(builder, root, predicates, majorCategory, middleCategory, subcategory);
-            Filter.addColorPredicate(builder, root, predicates, colors);
-            Filter.addSizePredicate(builder, root, predicates, sizes);
+            Filter.addColorPredicate(builder, query, root, predicates, colors);
+            Filter.addSizePredicate(builder, query, root, predicates, sizes);
             Filter.addPricePredicate(builder, root, predicates, minPrice, maxPrice);
 
-            query.distinct(true);
             return builder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
-    public static Specification<CartItem> searchCart(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, User user) {
+    public static Specification<CartItem> searchCart(String searchField, String searchTerm, String majorCategory, String middleCategory, String subcategory, List<String> colors, List<String> sizes, Integer minPrice, Integer maxPrice, Set<Long> searchItemIds, User user) {
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -69,18 +116,19 @@ public class IndexItemSpec {
                 predicates.add(builder.equal(root.get("user").get("userId"), user.getUserId()));
             }
 
-            if (searchTerm != null && !searchTerm.isEmpty()) {
+            if (searchItemIds != null) {
+                Filter.addItemIdPredicate(builder, root, predicates, searchItemIds);
+            } else if (searchTerm != null && !searchTerm.isEmpty()) {
                 String clearSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase();
                 String pattern = "%" + clearSearchTerm + "%";
                 Filter.addSearchFieldPredicates(builder, root, predicates, searchField, pattern);
             }
 
             Filter.addCategoryPredicates(builder, root, predicates, majorCategory, middleCategory, subcategory);
-            Filter.addColorPredicate(builder, root, predicates, colors);
-            Filter.addSizePredicate(builder, root, predicates, sizes);
+            Filter.addColorPredicate(builder, query, root, predicates, colors);
+            Filter.addSizePredicate(builder, query, root, predicates, sizes);
             Filter.addPricePredicate(builder, root, predicates, minPrice, maxPrice);
 
-            query.distinct(true);
             return builder.and(predicates.toArray(new Predicate[0]));
         };
     }
@@ -0,0 +1,381 @@
+package com.example.backend.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.dto.item.FacetCountsResponse;
+import com.example.backend.dto.item.IndexItemRequest;
+import com.example.backend.dto.item.ItemColorRow;
+import com.example.backend.dto.item.ItemFacetDocument;
+import com.example.backend.dto.item.ItemSizeRow;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.MajorCategoryEnum;
+import com.example.backend.entity.item.enums.MiddleCategoryEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.example.backend.entity.item.enums.SubcategoryEnum;
+import com.example.backend.repository.item.ColorRepostitory;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.SizeRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 필터 사이드바용 인메모리 패싯 인덱스
+ * - 패싯 값(카테고리/색상/사이즈/가격대)마다 상품 ID 비트셋을 미리 만들어 두고 AND/OR 연산으로 카운트
+ * - 필터 조합별 결과는 LRU 캐시, 상품이 변경되면 캐시 전체 무효화
+ * - 캐시 키에 검색 인덱스 버전을 포함 -> 검색 인덱스만 먼저/나중에 갱신돼도 이전 검색 결과로 만든 항목은 다시 조회되지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemFacetIndex {
+
+    private static final int CACHE_SIZE = 500;
+    // 가격대 구간 하한 (마지막 구간은 상한 없음)
+    private static final int[] PRICE_BOUNDS = {0, 10000, 30000, 50000, 100000, 200000};
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+
+    // 패싯 차원 순서 (masks 배열 인덱스)
+    private static final int MAJOR = 0;
+    private static final int MIDDLE = 1;
+    private static final int SUB = 2;
+    private static final int COLOR = 3;
+    private static final int SIZE = 4;
+    private static final int PRICE = 5;
+    private static final int DIMENSIONS = 6;
+
+    private final ItemRepository itemRepository;
+    private final ColorRepostitory colorRepository;
+    private final SizeRepository sizeRepository;
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 비트 인덱스 = itemId
+    private final BitSet live = new BitSet();
+    private final BitSet[] majorBits = newBitSets(MajorCategoryEnum.values().length);
+    private final BitSet[] middleBits = newBitSets(MiddleCategoryEnum.values().length);
+    private final BitSet[] subBits = newBitSets(SubcategoryEnum.values().length);
+    private final BitSet[] colorBits = newBitSets(ColorEnum.values().length);
+    private final BitSet[] sizeBits = newBitSets(SizeEnum.values().length);
+    private final BitSet[] priceBits = newBitSets(PRICE_BOUNDS.length);
+    private int[] prices = new int[0];
+    private volatile boolean ready = false;
+
+    private final Map<String, FacetCounts> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, FacetCounts> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    /**
+     * 전체 상품으로 패싯 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ItemFacetDocument> documents = itemRepository.findAllFacetDocuments();
+        List<ItemColorRow> colors = colorRepository.findAllColorRows();
+        List<ItemSizeRow> sizes = sizeRepository.findAllSizeRows();
+
+        lock.writeLock().lock();
+        try {
+            live.clear();
+            for (BitSet[] bitSets : List.of(majorBits, middleBits, subBits, colorBits, sizeBits, priceBits)) {
+                for (BitSet bits : bitSets) bits.clear();
+            }
+            prices = new int[0];
+            documents.forEach(this::addDocument);
+            colors.forEach(this::addColor);
+            sizes.forEach(this::addSize);
+            cache.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 인덱스 빌드 완료: {}건", documents.size());
+    }
+
+    /**
+     * 상품 등록/수정/삭제 커밋 후 해당 상품만 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        switch (event.type()) {
+            case CATALOG -> refresh(event.itemId());
+            case DELETED -> remove(event.itemId());
+            default -> { }
+        }
+    }
+
+    /**
+     * 상품 등록/수정 시 해당 상품만 다시 읽어 반영
+     */
+    public void refresh(Long itemId) {
+        if (!ready || itemId == null) return;
+        ItemFacetDocument document = itemRepository.findFacetDocumentById(itemId).orElse(null);
+        List<ItemColorRow> colors = colorRepository.findColorRowsByItemId(itemId);
+        List<ItemSizeRow> sizes = sizeRepository.findSizeRowsByItemId(itemId);
+
+        lock.writeLock().lock();
+        try {
+            clearDocument(bit(itemId));
+            if (document != null) {
+                addDocument(document);
+                colors.forEach(this::addColor);
+                sizes.forEach(this::addSize);
+            }
+            cache.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 삭제 시 인덱스에서 제거
+     */
+    public void remove(Long itemId) {
+        if (!ready || itemId == null) return;
+        lock.writeLock().lock();
+        try {
+            clearDocument(bit(itemId));
+            cache.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 필터 조건에서 패싯 값별 상품 수 계산
+     */
+    public FacetCountsResponse count(IndexItemRequest params) {
+        if (!ready || !itemSearchIndex.isReady()) {
+            throw new IllegalStateException("패싯 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        // 검색 인덱스 버전은 검색 전에 읽음 (검색 중에 갱신되면 다음 요청은 새 키로 조회)
+        String key = itemSearchIndex.getVersion() + "|" + cacheKey(params);
+        FacetCounts cached = cache.get(key);
+        if (cached != null) return cached.toResponse();
+
+        Set<Long> searchItemIds = itemSearchIndex.search(params.getSearchField(), params.getSearchTerm());
+
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (searchItemIds != null) {
+                BitSet searchMask = new BitSet();
+                searchItemIds.forEach(id -> searchMask.set(bit(id)));
+                base.and(searchMask);
+            }
+
+            BitSet[] masks = new BitSet[DIMENSIONS];
+            masks[MAJOR] = singleValueMask(majorBits, MajorCategoryEnum.class, params.getMajorCategory());
+            masks[MIDDLE] = singleValueMask(middleBits, MiddleCategoryEnum.class, params.getMiddleCategory());
+            masks[SUB] = singleValueMask(subBits, SubcategoryEnum.class, params.getSubcategory());
+            masks[COLOR] = anyValueMask(colorBits, ColorEnum.class, params.getColors());
+            masks[SIZE] = anyValueMask(sizeBits, SizeEnum.class, params.getItemSizes());
+            masks[PRICE] = priceMask(params.getMinPrice(), params.getMaxPrice());
+
+            FacetCounts counts = new FacetCounts(
+                    excluding(base, masks, -1).cardinality(),
+                    countValues(MajorCategoryEnum.values(), majorBits, excluding(base, masks, MAJOR)),
+                    countValues(MiddleCategoryEnum.values(), middleBits, excluding(base, masks, MIDDLE)),
+                    countValues(SubcategoryEnum.values(), subBits, excluding(base, masks, SUB)),
+                    countValues(ColorEnum.values(), colorBits, excluding(base, masks, COLOR)),
+                    countValues(SizeEnum.values(), sizeBits, excluding(base, masks, SIZE)),
+                    countPriceRanges(excluding(base, masks, PRICE)));
+            // 쓰기 락과 배타적인 구간에서 저장해야 무효화 직후 이전 결과가 캐시에 남지 않음
+            cache.put(key, counts);
+            return counts.toResponse();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(ItemFacetDocument document) {
+        int bit = bit(document.id());
+        live.set(bit);
+        if (document.majorCategory() != null) majorBits[document.majorCategory().ordinal()].set(bit);
+        if (document.middleCategory() != null) middleBits[document.middleCategory().ordinal()].set(bit);
+        if (document.subcategory() != null) subBits[document.subcategory().ordinal()].set(bit);
+
+        ensurePriceCapacity(bit);
+        Integer realPrice = document.realPrice();
+        prices[bit] = realPrice != null ? realPrice : NO_PRICE;
+        if (realPrice != null) priceBits[priceBucket(realPrice)].set(bit);
+    }
+
+    private void addColor(ItemColorRow row) {
+        if (row.color() != null && live.get(bit(row.itemId()))) {
+            colorBits[row.color().ordinal()].set(bit(row.itemId()));
+        }
+    }
+
+    private void addSize(ItemSizeRow row) {
+        if (row.size() != null && live.get(bit(row.itemId()))) {
+            sizeBits[row.size().ordinal()].set(bit(row.itemId()));
+        }
+    }
+
+    private void clearDocument(int bit) {
+        live.clear(bit);
+        for (BitSet[] bitSets : List.of(majorBits, middleBits, subBits, colorBits, sizeBits, priceBits)) {
+            for (BitSet bits : bitSets) bits.clear(bit);
+        }
+        if (bit < prices.length) prices[bit] = NO_PRICE;
+    }
+
+    // base AND (skip 차원을 제외한 모든 필터)
+    private static BitSet excluding(BitSet base, BitSet[] masks, int skip) {
+        BitSet result = (BitSet) base.clone();
+        for (int i = 0; i < masks.length; i++) {
+            if (i != skip && masks[i] != null) result.and(masks[i]);
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<String, Integer> countValues(E[] values, BitSet[] bitSets, BitSet mask) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (E value : values) {
+            BitSet bits = (BitSet) bitSets[value.ordinal()].clone();
+            bits.and(mask);
+            counts.put(value.name(), bits.cardinality());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private Map<String, Integer> countPriceRanges(BitSet mask) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < PRICE_BOUNDS.length; i++) {
+            BitSet bits = (BitSet) priceBits[i].clone();
+            bits.and(mask);
+            String label = i + 1 < PRICE_BOUNDS.length
+                    ? PRICE_BOUNDS[i] + "-" + PRICE_BOUNDS[i + 1]
+                    : PRICE_BOUNDS[i] + "-";
+            counts.put(label, bits.cardinality());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    // Filter.addCategoryPredicates와 동일: 값이 있으면 해당 값만
+    private static <E extends Enum<E>> BitSet singleValueMask(BitSet[] bitSets, Class<E> type, String value) {
+        if (value == null || value.isEmpty()) return null;
+        int ordinal = ordinalOf(type, value);
+        return ordinal >= 0 ? bitSets[ordinal] : new BitSet();
+    }
+
+    // Filter.addColorPredicate/addSizePredicate와 동일: 여러 값 중 하나라도 (OR)
+    private static <E extends Enum<E>> BitSet anyValueMask(BitSet[] bitSets, Class<E> type, List<String> values) {
+        if (values == null || values.isEmpty()) return null;
+        BitSet mask = new BitSet();
+        for (String value : values) {
+            int ordinal = ordinalOf(type, value);
+            if (ordinal >= 0) mask.or(bitSets[ordinal]);
+        }
+        return mask;
+    }
+
+    // Filter.addPricePredicate와 동일: 0 이하의 값은 조건 없음
+    private BitSet priceMask(Integer minPrice, Integer maxPrice) {
+        boolean hasMin = minPrice != null && minPrice > 0;
+        boolean hasMax = maxPrice != null && maxPrice > 0;
+        if (!hasMin && !hasMax) return null;
+        BitSet mask = new BitSet();
+        for (int bit = live.nextSetBit(0); bit >= 0; bit = live.nextSetBit(bit + 1)) {
+            int price = prices[bit];
+            if (price == NO_PRICE) continue;
+            if (hasMin && price < minPrice) continue;
+            if (hasMax && price > maxPrice) continue;
+            mask.set(bit);
+        }
+        return mask;
+    }
+
+    private static int priceBucket(int price) {
+        for (int i = PRICE_BOUNDS.length - 1; i > 0; i--) {
+            if (price >= PRICE_BOUNDS[i]) return i;
+        }
+        return 0;
+    }
+
+    private void ensurePriceCapacity(int bit) {
+        if (bit < prices.length) return;
+        int oldLength = prices.length;
+        prices = Arrays.copyOf(prices, Math.max(bit + 1, oldLength * 2));
+        Arrays.fill(prices, oldLength, prices.length, NO_PRICE);
+    }
+
+    private static <E extends Enum<E>> int ordinalOf(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value).ordinal();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static int bit(Long itemId) {
+        return Math.toIntExact(itemId);
+    }
+
+    private static BitSet[] newBitSets(int size) {
+        BitSet[] bitSets = new BitSet[size];
+        for (int i = 0; i < size; i++) bitSets[i] = new BitSet();
+        return bitSets;
+    }
+
+    // 필터 조합 캐시 키 (색상/사이즈는 순서 무관하게 정렬)
+    private static String cacheKey(IndexItemRequest params) {
+        String searchTerm = params.getSearchTerm() != null
+                ? params.getSearchTerm().replaceAll("\\s", "").toLowerCase()
+                : "";
+        return String.join("|",
+                searchTerm.isEmpty() ? "" : String.valueOf(ItemSearchIndex.SearchField.from(params.getSearchField())),
+                searchTerm,
+                String.valueOf(params.getMajorCategory()),
+                String.valueOf(params.getMiddleCategory()),
+                String.valueOf(params.getSubcategory()),
+                params.getColors() != null ? String.valueOf(new TreeSet<>(params.getColors())) : "",
+                params.getItemSizes() != null ? String.valueOf(new TreeSet<>(params.getItemSizes())) : "",
+                String.valueOf(params.getMinPrice()),
+                String.valueOf(params.getMaxPrice()));
+    }
+
+    /**
+     * 캐시 항목 - 여러 요청이 공유하므로 변경 불가 (응답 객체는 요청마다 새로 만듦)
+     */
+    private record FacetCounts(
+            int total,
+            Map<String, Integer> majorCategories,
+            Map<String, Integer> middleCategories,
+            Map<String, Integer> subcategories,
+            Map<String, Integer> colors,
+            Map<String, Integer> sizes,
+            Map<String, Integer> priceRanges) {
+
+        private FacetCountsResponse toResponse() {
+            return FacetCountsResponse.builder()
+                    .total(total)
+                    .majorCategories(majorCategories)
+                    .middleCategories(middleCategories)
+                    .subcategories(subcategories)
+                    .colors(colors)
+                    .sizes(sizes)
+                    .priceRanges(priceRanges)
+                    .build();
+        }
+    }
+}
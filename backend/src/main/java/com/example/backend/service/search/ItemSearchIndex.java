@@ -0,0 +1,226 @@
+package com.example.backend.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.dto.item.ItemSearchDocument;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색용 인메모리 n-gram 역색인
+ * - 공백 제거 + 소문자 변환한 문자열을 1-gram, 2-gram으로 분해해 gram -> itemId 목록으로 저장
+ * - 한글 상품명도 형태소 분석 없이 부분 문자열 검색 가능 (기존 LIKE '%term%' 의미 유지)
+ * - 애플리케이션 시작 시 전체 빌드, 관리자 상품 등록/수정/삭제(ItemChangedEvent) 커밋 후 해당 상품만 갱신
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 필드별 gram -> itemId 목록
+    private final Map<SearchField, Map<String, Set<Long>>> postings = new EnumMap<>(SearchField.class);
+    // 필드별 itemId -> 정규화된 원문 (후보 검증 및 삭제 시 사용)
+    private final Map<SearchField, Map<Long, String>> documents = new EnumMap<>(SearchField.class);
+    private volatile boolean ready = false;
+    // 인덱스가 바뀔 때마다 증가 (쓰기 락 안에서만) - 검색 결과를 캐시하는 쪽에서 캐시 키에 사용
+    private volatile long version = 0L;
+
+    public enum SearchField {
+        TITLE, BRAND, DESCRIPTION;
+
+        // Filter.addSearchFieldPredicates와 동일하게 알 수 없는 값은 title로 검색
+        public static SearchField from(String searchField) {
+            if ("brand".equals(searchField)) return BRAND;
+            if ("description".equals(searchField)) return DESCRIPTION;
+            return TITLE;
+        }
+    }
+
+    /**
+     * 전체 상품으로 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ItemSearchDocument> sources = itemRepository.findAllSearchDocuments();
+        lock.writeLock().lock();
+        try {
+            for (SearchField field : SearchField.values()) {
+                postings.put(field, new HashMap<>());
+                documents.put(field, new HashMap<>());
+            }
+            sources.forEach(this::add);
+            version++;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 인덱스 빌드 완료: {}건", sources.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 상품 등록/수정/삭제 커밋 후 해당 상품만 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        switch (event.type()) {
+            case CATALOG -> refresh(event.itemId());
+            case DELETED -> remove(event.itemId());
+            default -> { }
+        }
+    }
+
+    /**
+     * 상품 등록/수정 시 해당 상품을 다시 읽어 인덱스 갱신
+     */
+    public void refresh(Long itemId) {
+        if (!ready || itemId == null) return;
+        ItemSearchDocument document = itemRepository.findSearchDocumentById(itemId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            removeInternal(itemId);
+            if (document != null) add(document);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 삭제 시 인덱스에서 제거
+     */
+    public void remove(Long itemId) {
+        if (!ready || itemId == null) return;
+        lock.writeLock().lock();
+        try {
+            removeInternal(itemId);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 상품 ID 조회
+     * @return 매칭된 itemId 목록 (검색어가 비어 있으면 null -> 검색 조건 없음)
+     */
+    public Set<Long> search(String searchField, String searchTerm) {
+        String term = normalize(searchTerm);
+        if (term.isEmpty()) return null;
+
+        SearchField field = SearchField.from(searchField);
+        lock.readLock().lock();
+        try {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            Map<Long, String> fieldDocuments = documents.get(field);
+
+            // 가장 짧은 posting부터 교집합
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : queryGrams(term)) {
+                Set<Long> ids = fieldPostings.get(gram);
+                if (ids == null) return Set.of();
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<Long> candidates = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+            // gram 교집합은 순서를 보장하지 않으므로 원문에 실제로 포함되는지 확인
+            if (term.length() > GRAM_SIZE) {
+                candidates.removeIf(id -> !fieldDocuments.getOrDefault(id, "").contains(term));
+            }
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ItemSearchDocument source) {
+        addField(SearchField.TITLE, source.id(), source.title());
+        addField(SearchField.BRAND, source.id(), source.brand());
+        addField(SearchField.DESCRIPTION, source.id(), source.description());
+    }
+
+    private void addField(SearchField field, Long itemId, String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) return;
+        documents.get(field).put(itemId, normalized);
+        Map<String, Set<Long>> fieldPostings = postings.get(field);
+        for (String gram : indexGrams(normalized)) {
+            fieldPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(itemId);
+        }
+    }
+
+    private void removeInternal(Long itemId) {
+        for (SearchField field : SearchField.values()) {
+            String normalized = documents.get(field).remove(itemId);
+            if (normalized == null) continue;
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String gram : indexGrams(normalized)) {
+                Set<Long> ids = fieldPostings.get(gram);
+                if (ids == null) continue;
+                ids.remove(itemId);
+                if (ids.isEmpty()) fieldPostings.remove(gram);
+            }
+        }
+    }
+
+    // 색인: 1-gram(한 글자 검색용) + 2-gram
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + GRAM_SIZE <= text.length()) {
+                grams.add(text.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    // 검색: 한 글자면 1-gram, 그 외 2-gram
+    private static Set<String> queryGrams(String term) {
+        if (term.length() < GRAM_SIZE) return Set.of(term);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    // 기존 검색과 동일하게 공백 제거 + 소문자 변환
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return text.replaceAll("\\s", "").toLowerCase();
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.backend.service.search.utility;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import com.example.backend.entity.item.details.Color;
+import com.example.backend.entity.item.details.Size;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 public class Filter {
 
@@ -48,6 +55,16 @@ public class Filter {
         }
     }
 
+    public static <T> void addItemIdPredicate(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            // 검색 결과가 없으면 항상 거짓 조건
+            predicates.add(builder.disjunction());
+            return;
+        }
+        Path<Long> idPath = getItemPath(root, "id");
+        predicates.add(idPath.in(itemIds));
+    }
+
     public static <T> void addCategoryPredicates(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates, String majorCategory, String middleCategory, String subcategory) {
         if (majorCategory != null && !majorCategory.isEmpty()) {
             Path<String> majorPath = getItemPath(root, "majorCategory");
@@ -63,28 +80,47 @@ public class Filter {
         }
     }
 
-    public static <T> void addColorPredicate(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates, List<String> colors) {
+    public static <T> void addColorPredicate(CriteriaBuilder builder, CriteriaQuery<?> query, Root<T> root, List<Predicate> predicates, List<String> colors) {
         if (colors != null && !colors.isEmpty()) {
-            Join<?, ?> colorJoin = getItemJoin(root, "colorList");
             // 여러 색상 중 하나라도 매칭되면 조회 (OR 조건)
-            Predicate[] colorPredicates = colors.stream()
-                    .map(color -> builder.equal(colorJoin.get("color"), color))
-                    .toArray(Predicate[]::new);
-            predicates.add(builder.or(colorPredicates));
+            // JOIN 대신 EXISTS 서브쿼리로 상품 행이 중복되지 않도록 처리 (DISTINCT 불필요)
+            List<ColorEnum> values = toEnums(ColorEnum.class, colors);
+            if (values.isEmpty()) {
+                predicates.add(builder.disjunction());
+                return;
+            }
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Color> color = subquery.from(Color.class);
+            subquery.select(color.get("id"))
+                    .where(builder.equal(color.get("item").get("id"), getItemPath(root, "id")),
+                            color.get("color").in(values));
+            predicates.add(builder.exists(subquery));
         }
     }
 
-    public static <T> void addSizePredicate(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates, List<String> sizes) {
+    public static <T> void addSizePredicate(CriteriaBuilder builder, CriteriaQuery<?> query, Root<T> root, List<Predicate> predicates, List<String> sizes) {
         if (sizes != null && !sizes.isEmpty()) {
-            Join<?, ?> sizeJoin = getItemJoin(root, "sizeList");
             // 여러 사이즈 중 하나라도 매칭되면 조회 (OR 조건)
-            Predicate[] sizePredicates = sizes.stream()
-                    .map(size -> builder.equal(sizeJoin.get("size"), size))
-                    .toArray(Predicate[]::new);
-            predicates.add(builder.or(sizePredicates));
+            // JOIN 대신 EXISTS 서브쿼리로 상품 행이 중복되지 않도록 처리 (DISTINCT 불필요)
+            List<SizeEnum> values = toEnums(SizeEnum.class, sizes);
+            if (values.isEmpty()) {
+                predicates.add(builder.disjunction());
+                return;
+            }
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Size> size = subquery.from(Size.class);
+            subquery.select(size.get("id"))
+                    .where(builder.equal(size.get("item").get("id"), getItemPath(root, "id")),
+                            size.get("size").in(values));
+            predicates.add(builder.exists(subquery));
         }
     }
 
+    public static <T> void addInStockPredicate(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates) {
+        Path<Integer> stockPath = getItemPath(root, "stock");
+        predicates.add(builder.greaterThan(stockPath, 0));
+    }
+
     public static <T> void addPricePredicate(CriteriaBuilder builder, Root<T> root, List<Predicate> predicates, Integer minPrice, Integer maxPrice) {
         Path<Integer> realPricePath = getItemPath(root, "realPrice");
         if (minPrice != null && minPrice > 0) {
@@ -106,14 +142,16 @@ public class Filter {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> Join<?, ?> getItemJoin(Root<T> root, String collection) {
-        // FavoriteItem, CartItem 등의 경우 item을 통해 접근
-        try {
-            return root.join("item", JoinType.LEFT).join(collection, JoinType.LEFT);
-        } catch (IllegalArgumentException e) {
-            // Item 엔티티인 경우 직접 접근
-            return root.join(collection, JoinType.LEFT);
+    // 알 수 없는 값은 무시 (모두 알 수 없으면 빈 목록 -> 매칭 없음)
+    public static <E extends Enum<E>> List<E> toEnums(Class<E> type, List<String> values) {
+        List<E> enums = new ArrayList<>();
+        for (String value : values) {
+            try {
+                enums.add(Enum.valueOf(type, value));
+            } catch (IllegalArgumentException e) {
+                // skip
+            }
         }
+        return enums;
     }
 }
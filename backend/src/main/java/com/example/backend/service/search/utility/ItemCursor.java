@@ -0,0 +1,94 @@
+package com.example.backend.service.search.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.example.backend.dto.item.ItemCardRow;
+
+/**
+ * 키셋(seek) 페이지네이션용 커서
+ * 마지막으로 내려준 아이템의 (정렬 키 값, id)를 Base64 URL-safe 문자열로 인코딩해 클라이언트에 전달
+ * 예: "likeCount|DESC|12|345" -> "bGlrZUNvdW50fERFU0N8MTJ8MzQ1"
+ */
+public record ItemCursor(String sortKey, Direction direction, Long value, Long id) {
+
+    // 허용된 정렬 키 -> Item 필드
+    // createdAt은 등록 시점에 한 번만 기록되므로 IDENTITY id 순서와 같음 -> PK로 seek
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "createdAt", "id",
+            "price", "price",
+            "likeCount", "likeCount",
+            "reviewCount", "reviewCount"
+    );
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 요청 정렬에서 seek에 사용할 Item 필드명을 결정
+     */
+    public static String resolveSortField(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.desc("id"));
+        String field = SORT_FIELDS.get(order.getProperty());
+        if (field == null) {
+            throw new IllegalArgumentException("커서 페이지네이션에서 지원하지 않는 정렬입니다: " + order.getProperty());
+        }
+        return field;
+    }
+
+    public static Direction resolveDirection(Sort sort) {
+        return sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Direction.DESC);
+    }
+
+    /**
+     * 정렬 키 + id 보조 정렬 (같은 값이 여러 개여도 순서가 고정되도록)
+     */
+    public static Sort toSort(String sortField, Direction direction) {
+        if ("id".equals(sortField)) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+    }
+
+    public static ItemCursor of(ItemCardRow card, String sortField, Direction direction) {
+        return new ItemCursor(sortField, direction, sortValue(card, sortField), card.id());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortKey, direction.name(), String.valueOf(value), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 - 요청의 정렬과 커서의 정렬이 다르면 예외
+     */
+    public static ItemCursor decode(String cursor, String sortField, Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !parts[0].equals(sortField) || Direction.valueOf(parts[1]) != direction) {
+                throw new IllegalArgumentException("정렬 조건과 맞지 않는 커서입니다.");
+            }
+            return new ItemCursor(parts[0], direction, Long.valueOf(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private static Long sortValue(ItemCardRow card, String sortField) {
+        switch (sortField) {
+            case "price":
+                return card.price() != null ? card.price().longValue() : 0L;
+            case "likeCount":
+                return card.likeCount() != null ? card.likeCount().longValue() : 0L;
+            case "reviewCount":
+                return card.reviewCount() != null ? card.reviewCount().longValue() : 0L;
+            default:
+                return card.id();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.backend.web;
 
+import com.example.backend.entity.item.enums.OrderStatus;
+import com.example.backend.entity.item.enums.PaymentStatus;
 import com.example.backend.entity.user.Role;
 import com.example.backend.entity.user.User;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -10,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,6 +23,8 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ItemRepository itemRepository;
+    private final OrderItemRepository orderItemRepository;
 
     @Transactional
     @Override
@@ -53,5 +61,44 @@ public class DataInitializer implements CommandLineRunner {
                 log.info("✅ 테스트 유저 계정 생성 완료: {}", email);
             }
         }
+
+        // 3️⃣ 집계 컬럼(리뷰 수/점수 합계, 장바구니 수, 좋아요 수)이 비어 있는 기존 상품 보정 (1회)
+        // 보정할 상품이 없으면 UPDATE 없이 조회만 (매 기동마다 전체 상품 행을 잠그지 않도록)
+        if (itemRepository.countMissingAggregates() > 0) {
+            int synced = itemRepository.syncMissingAggregates();
+            log.info("✅ 상품 집계 컬럼 보정 완료: {}건", synced);
+        }
+
+        // 4️⃣ 재고가 비어 있는 기존 상품 보정 (1회) - 옵션 재고 합계, 없으면 0
+        // NULL 재고는 조건부 차감(stock >= n)이 항상 실패해 주문할 수 없음
+        if (itemRepository.countMissingStock() > 0) {
+            int filled = itemRepository.fillMissingStock();
+            log.info("✅ 상품 재고 보정 완료: {}건", filled);
+        }
+
+        // 5️⃣ 요약 컬럼이 없는 기존 주문 보정 (1회, 주문 목록은 요약 컬럼만 조회)
+        // 3/4와 같이 보정할 주문이 있을 때만 UPDATE (매 기동마다 전체 주문 행을 잠그지 않도록)
+        if (orderItemRepository.countMissingSummaries() > 0) {
+            int synced = orderItemRepository.syncSummaries();
+            log.info("✅ 주문 요약 컬럼 보정 완료: {}건", synced);
+        }
+
+        // 6️⃣ 상태/생성 시각이 없는 기존 주문 보정 (관리자 목록은 (status, createdAt) 인덱스로 조회)
+        // 결제 원장 기준, 원장이 없는 주문은 결제 여부를 알 수 없으므로 결제 대기 (결제 완료로 보면 중단된 결제까지 PAID가 됨)
+        if (orderItemRepository.countMissingStatus() > 0) {
+            int synced = orderItemRepository.syncStatusFromPayment(PaymentStatus.APPROVED, OrderStatus.PAID)
+                    + orderItemRepository.syncStatusFromPayment(PaymentStatus.CANCELED, OrderStatus.CANCELED)
+                    + orderItemRepository.syncStatusFromPayment(PaymentStatus.REQUESTED, OrderStatus.PENDING_PAYMENT)
+                    + orderItemRepository.syncStatusFromPayment(PaymentStatus.FAILED, OrderStatus.PENDING_PAYMENT)
+                    + orderItemRepository.fillMissingStatus(OrderStatus.PENDING_PAYMENT);
+            log.info("✅ 주문 상태 보정 완료: {}건", synced);
+        }
+        if (orderItemRepository.countMissingCreatedAt() > 0) {
+            int stamped = orderItemRepository.fillMissingCreatedAt(LocalDateTime.now());
+            log.info("✅ 주문 생성 시각 보정 완료: {}건", stamped);
+        }
+
+        // 주문 번호가 없는 기존 주문은 채우지 않음 - 토스 결제의 orderId와 맞는 번호를 알 수 없으므로
+        // 번호 발급기 도입 전 주문은 결제 승인(/api/payment/confirm)할 수 없고 새로 주문해야 함
     }
 }
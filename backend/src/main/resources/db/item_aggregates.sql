@@ -0,0 +1,7 @@
+-- =====================================================
+-- 상품 집계 컬럼 (Item.reviewScoreSum, Item.cartCount) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 컬럼을 만들지 않음 -> 이 스크립트로 생성
+-- 기본값 없이 추가 (NULL) -> 첫 기동 시 DataInitializer 3단계가 리뷰/장바구니 행으로 채움
+ALTER TABLE item ADD COLUMN IF NOT EXISTS review_score_sum INT NULL;
+ALTER TABLE item ADD COLUMN IF NOT EXISTS cart_count INT NULL;
@@ -0,0 +1,7 @@
+-- =====================================================
+-- 상품 목록 정렬/커서 인덱스 (Item @Table indexes) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- 커서(키셋) 페이지: (정렬 컬럼, id) 순서로 인덱스 seek
+CREATE INDEX IF NOT EXISTS idx_item_price_id ON item (price, id);
+CREATE INDEX IF NOT EXISTS idx_item_like_count_id ON item (like_count, id);
+CREATE INDEX IF NOT EXISTS idx_item_review_count_id ON item (review_count, id);
@@ -0,0 +1,23 @@
+-- =====================================================
+-- 옵션(색상 x 사이즈)별 재고 (ItemVariantStock, StockReservation.color/size) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 테이블/컬럼을 만들지 않음 -> 이 스크립트로 생성 (stock_reservation.sql 다음에 실행)
+-- ENUM 값은 ColorEnum/SizeEnum 선언 순서와 같아야 함 (값을 추가하면 ALTER 필요)
+CREATE TABLE IF NOT EXISTS item_variant_stock (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    item_id BIGINT NOT NULL,
+    color ENUM('BLACK', 'WHITE', 'GRAY', 'IVORY', 'RED', 'PINK', 'ORANGE', 'YELLOW', 'GREEN', 'KHAKI',
+               'BLUE', 'NAVY', 'PURPLE', 'BROWN', 'BEIGE') NOT NULL,
+    size ENUM('XS', 'S', 'M', 'L', 'XL', 'XXL', 'FREE') NOT NULL,
+    stock INT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_item_variant_stock UNIQUE (item_id, color, size),
+    CONSTRAINT fk_item_variant_stock_item FOREIGN KEY (item_id) REFERENCES item (id)
+) ENGINE = InnoDB;
+
+-- 옵션 재고를 차감한 예약만 값이 있음 (없으면 상품 재고만 차감)
+ALTER TABLE stock_reservation ADD COLUMN IF NOT EXISTS color
+    ENUM('BLACK', 'WHITE', 'GRAY', 'IVORY', 'RED', 'PINK', 'ORANGE', 'YELLOW', 'GREEN', 'KHAKI',
+         'BLUE', 'NAVY', 'PURPLE', 'BROWN', 'BEIGE') NULL;
+ALTER TABLE stock_reservation ADD COLUMN IF NOT EXISTS size
+    ENUM('XS', 'S', 'M', 'L', 'XL', 'XXL', 'FREE') NULL;
@@ -0,0 +1,11 @@
+-- =====================================================
+-- 주문 상품 ID 시퀀스 (OrderItemList.ID_SEQUENCE) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 시퀀스를 만들지 않음 -> 이 스크립트로 생성
+-- 증가폭은 allocationSize(ID_ALLOCATION_SIZE = 50)와 같아야 함 (pooled 할당)
+CREATE SEQUENCE IF NOT EXISTS order_item_list_seq START WITH 1 INCREMENT BY 50;
+
+-- IDENTITY로 저장된 기존 행 이후로 이동
+-- pooled 할당은 시퀀스 값 v 기준 (v - 50, v] 구간을 사용 -> max(id) + 51부터 시작
+SET @order_item_list_restart = (SELECT COALESCE(MAX(id), 0) + 51 FROM order_item_list);
+EXECUTE IMMEDIATE CONCAT('ALTER SEQUENCE order_item_list_seq RESTART WITH ', @order_item_list_restart);
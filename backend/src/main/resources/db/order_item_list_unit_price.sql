@@ -0,0 +1,6 @@
+-- =====================================================
+-- 주문 상품 단가 (OrderItemList.unitPrice) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 컬럼을 만들지 않음 -> 이 스크립트로 생성
+-- 기존 주문 상품은 NULL (주문 상세는 NULL이면 현재 상품 가격으로 표시)
+ALTER TABLE order_item_list ADD COLUMN IF NOT EXISTS unit_price INT NULL;
@@ -0,0 +1,10 @@
+-- =====================================================
+-- 주문 상태 (OrderItem.status) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 컬럼/인덱스를 만들지 않음 -> 이 스크립트로 생성
+-- 기본값 없이 추가 (NULL) -> 첫 기동 시 DataInitializer 6단계가 결제 원장 기준으로 채움 (원장이 없으면 PENDING_PAYMENT)
+ALTER TABLE order_item ADD COLUMN IF NOT EXISTS status
+    ENUM('PENDING_PAYMENT', 'PAID', 'SHIPPED', 'DELIVERED', 'CANCELED') NULL;
+
+-- 관리자 상태별 주문 목록 (status = ? order by created_at, id)
+CREATE INDEX IF NOT EXISTS idx_order_item_status_created ON order_item (status, created_at);
@@ -0,0 +1,8 @@
+-- =====================================================
+-- 주문 요약 컬럼 (OrderItem.lineCount, firstItemTitle, firstItemImageUrl) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 컬럼을 만들지 않음 -> 이 스크립트로 생성
+-- 기본값 없이 추가 (NULL) -> 첫 기동 시 DataInitializer 5단계가 주문 상품으로 채움
+ALTER TABLE order_item ADD COLUMN IF NOT EXISTS line_count INT NULL;
+ALTER TABLE order_item ADD COLUMN IF NOT EXISTS first_item_title VARCHAR(255) NULL;
+ALTER TABLE order_item ADD COLUMN IF NOT EXISTS first_item_image_url VARCHAR(255) NULL;
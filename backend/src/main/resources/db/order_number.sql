@@ -0,0 +1,14 @@
+-- =====================================================
+-- 주문 번호 (OrderItem.orderNumber, NumberSequence) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 테이블/컬럼을 만들지 않음 -> 이 스크립트로 생성
+-- 번호 블록 테이블 - 행은 OrderNumberGenerator가 처음 발급할 때 만듦
+CREATE TABLE IF NOT EXISTS number_sequence (
+    name VARCHAR(50) NOT NULL,
+    next_hi BIGINT NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- 기존 주문은 NULL로 둠 (토스 결제의 orderId와 맞는 번호가 없어 결제 승인 불가)
+ALTER TABLE order_item ADD COLUMN IF NOT EXISTS order_number VARCHAR(32) NULL;
+ALTER TABLE order_item ADD UNIQUE INDEX IF NOT EXISTS uk_order_item_order_number (order_number);
@@ -0,0 +1,23 @@
+-- =====================================================
+-- 아웃박스 이벤트 (OutboxEvent) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 테이블을 만들지 않음 -> 이 스크립트로 생성
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(64) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    status ENUM('PENDING', 'PROCESSING', 'DONE', 'FAILED') NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(36) NULL,
+    locked_until DATETIME(6) NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6) NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 전달 대상 조회 / 점유한 묶음 조회
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON outbox_event (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_claim_token ON outbox_event (claim_token);
@@ -0,0 +1,26 @@
+-- =====================================================
+-- 결제 원장 (Payment) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 테이블을 만들지 않음 -> 이 스크립트로 생성
+-- ENUM 값은 PaymentStatus 선언 순서와 같아야 함 (값을 추가하면 ALTER 필요)
+CREATE TABLE IF NOT EXISTS payment (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id VARCHAR(64) NOT NULL,
+    payment_key VARCHAR(200) NOT NULL,
+    order_item_id BIGINT NOT NULL,
+    amount INT NOT NULL,
+    status ENUM('REQUESTED', 'APPROVED', 'FAILED', 'CANCEL_PENDING', 'CANCELED') NOT NULL,
+    order_name VARCHAR(100) NULL,
+    method VARCHAR(50) NULL,
+    approved_at DATETIME(6) NULL,
+    failure_code VARCHAR(100) NULL,
+    failure_message VARCHAR(500) NULL,
+    locked_until DATETIME(6) NULL,
+    requested_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payment_order_id UNIQUE (order_id),
+    CONSTRAINT uk_payment_payment_key UNIQUE (payment_key),
+    CONSTRAINT uk_payment_order_item UNIQUE (order_item_id),
+    CONSTRAINT fk_payment_order_item FOREIGN KEY (order_item_id) REFERENCES order_item (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,19 @@
+-- =====================================================
+-- 재고 예약 테이블 (StockReservation) - MariaDB, 배포 전 1회 실행
+-- =====================================================
+-- prod는 ddl-auto: validate라 테이블을 만들지 않음 -> 이 스크립트로 생성
+-- 색상/사이즈 컬럼은 item_variant_stock.sql에서 추가
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_item_id BIGINT NULL,
+    item_id BIGINT NULL,
+    quantity INT NOT NULL,
+    status ENUM('RESERVED', 'CONFIRMED', 'RELEASED') NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_stock_reservation_order_item FOREIGN KEY (order_item_id) REFERENCES order_item (id),
+    CONSTRAINT fk_stock_reservation_item FOREIGN KEY (item_id) REFERENCES item (id)
+) ENGINE = InnoDB;
+
+-- 만료 예약 정리 조회용
+CREATE INDEX IF NOT EXISTS idx_stock_reservation_status_expires ON stock_reservation (status, expires_at);
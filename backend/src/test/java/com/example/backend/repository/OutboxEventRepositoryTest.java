@@ -0,0 +1,213 @@
+package com.example.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.outbox.OutboxEvent;
+import com.example.backend.entity.outbox.OutboxStatus;
+
+/**
+ * OutboxEventRepository 점유/결과 기록 쿼리 확인 (H2)
+ * - 여러 노드(토큰)가 같은 행을 동시에 점유해도 한 행은 한 토큰만 가져감
+ * - 점유가 만료되어 다른 토큰이 가져간 뒤에는 이전 토큰의 markDone/markFailed가 무시됨
+ * - 점유 만료 후 다시 가져가면 시도 횟수 +1, 최대 횟수에 도달하면 failExpired가 FAILED로 변경
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+// 토큰마다 실제 트랜잭션으로 커밋되도록 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxEventRepositoryTest {
+
+    private static final int EVENTS = 200;
+    private static final int NODES = 8;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentClaimsTakeEachRowOnce() throws Exception {
+        for (int i = 0; i < EVENTS; i++) {
+            save(i);
+        }
+
+        // 노드마다 같은 대상 ID를 조회한 뒤 동시에 점유 시도
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int node = 0; node < NODES; node++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String token = UUID.randomUUID().toString();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        List<Long> ids = outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                                NOW, PageRequest.of(0, EVENTS));
+                        claim(ids, token, NOW);
+                    });
+                    return outboxEventRepository.findAllByClaimTokenOrderByIdAsc(token).stream()
+                            .map(OutboxEvent::getId)
+                            .toList();
+                }));
+            }
+            start.countDown();
+
+            Set<Long> claimed = new HashSet<>();
+            int total = 0;
+            for (Future<List<Long>> future : futures) {
+                List<Long> ids = future.get();
+                claimed.addAll(ids);
+                total += ids.size();
+            }
+            // 중복 점유 없이 모든 행을 나눠 가짐
+            assertEquals(EVENTS, total);
+            assertEquals(EVENTS, claimed.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void claimedRowIsSkippedUntilLeaseExpires() {
+        Long id = save(0);
+
+        assertEquals(1, inTransaction(() -> claim(List.of(id), "node-a", NOW)));
+        // 점유 중에는 다른 노드의 대상이 아님
+        assertEquals(List.of(), outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                NOW.plusSeconds(30), PageRequest.of(0, 10)));
+        assertEquals(0, inTransaction(() -> claim(List.of(id), "node-b", NOW.plusSeconds(30))));
+
+        // 점유 만료 (lockedUntil = NOW + 60초) 후 다른 노드가 가져감
+        LocalDateTime expired = NOW.plusSeconds(61);
+        assertEquals(List.of(id), outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                expired, PageRequest.of(0, 10)));
+        assertEquals(1, inTransaction(() -> claim(List.of(id), "node-b", expired)));
+    }
+
+    @Test
+    void staleTokenCannotRecordResultAfterLeaseExpires() {
+        Long id = save(0);
+        inTransaction(() -> claim(List.of(id), "node-a", NOW));
+        inTransaction(() -> claim(List.of(id), "node-b", NOW.plusSeconds(61)));
+
+        // 늦게 끝난 node-a의 결과는 무시
+        assertEquals(0, inTransaction(() -> outboxEventRepository.markDone(id, "node-a", OutboxStatus.DONE, NOW.plusSeconds(62))));
+        assertEquals(0, inTransaction(() -> outboxEventRepository.markFailed(id, "node-a", OutboxStatus.PENDING,
+                NOW.plusSeconds(70), "timeout")));
+        OutboxEvent processing = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.PROCESSING, processing.getStatus());
+        assertEquals("node-b", processing.getClaimToken());
+        // node-a의 점유 만료가 한 번의 시도
+        assertEquals(1, processing.getAttempts());
+
+        // 현재 점유한 node-b만 기록
+        assertEquals(1, inTransaction(() -> outboxEventRepository.markDone(id, "node-b", OutboxStatus.DONE, NOW.plusSeconds(63))));
+        OutboxEvent done = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.DONE, done.getStatus());
+        assertNull(done.getClaimToken());
+        assertNull(done.getLockedUntil());
+
+        // 완료된 뒤에는 이전 토큰의 실패 기록도 무시
+        assertEquals(0, inTransaction(() -> outboxEventRepository.markFailed(id, "node-a", OutboxStatus.PENDING,
+                NOW.plusSeconds(70), "timeout")));
+        assertEquals(OutboxStatus.DONE, outboxEventRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void failedEventIsNotDueBeforeNextAttempt() {
+        Long id = save(0);
+        inTransaction(() -> claim(List.of(id), "node-a", NOW));
+        inTransaction(() -> outboxEventRepository.markFailed(id, "node-a", OutboxStatus.PENDING, NOW.plusSeconds(4), "error"));
+
+        assertEquals(List.of(), outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                NOW.plusSeconds(3), PageRequest.of(0, 10)));
+        assertEquals(List.of(id), outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                NOW.plusSeconds(4), PageRequest.of(0, 10)));
+        assertEquals(1, outboxEventRepository.findById(id).orElseThrow().getAttempts());
+    }
+
+    @Test
+    void expiredLeaseIsFailedAtMaxAttempts() {
+        Long id = save(0);
+        inTransaction(() -> claim(List.of(id), "node-a", NOW));
+        inTransaction(() -> claim(List.of(id), "node-b", NOW.plusSeconds(61)));
+        assertEquals(1, outboxEventRepository.findById(id).orElseThrow().getAttempts());
+
+        // 점유 중이면 대상 아님
+        assertEquals(0, inTransaction(() -> outboxEventRepository.failExpired(OutboxStatus.PROCESSING, OutboxStatus.FAILED,
+                NOW.plusSeconds(62), 2, "expired")));
+        // node-b의 점유도 만료 - 이번 만료가 두 번째 시도 (최대 3회면 다시 전달, 2회면 포기)
+        LocalDateTime expired = NOW.plusSeconds(122);
+        assertEquals(0, inTransaction(() -> outboxEventRepository.failExpired(OutboxStatus.PROCESSING, OutboxStatus.FAILED,
+                expired, 3, "expired")));
+        assertEquals(1, inTransaction(() -> outboxEventRepository.failExpired(OutboxStatus.PROCESSING, OutboxStatus.FAILED,
+                expired, 2, "expired")));
+
+        OutboxEvent failed = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getAttempts());
+        assertEquals("expired", failed.getLastError());
+        assertNull(failed.getClaimToken());
+        assertEquals(List.of(), outboxEventRepository.findDueIds(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                expired, PageRequest.of(0, 10)));
+    }
+
+    // 디스패처와 같은 점유 조건 (점유 시간 60초)
+    private int claim(List<Long> ids, String token, LocalDateTime now) {
+        if (ids.isEmpty()) return 0;
+        return outboxEventRepository.claim(ids, token, now.plusSeconds(60), OutboxStatus.PENDING, OutboxStatus.PROCESSING, now);
+    }
+
+    private int inTransaction(IntSupplier update) {
+        return transactionTemplate.execute(status -> update.getAsInt());
+    }
+
+    private Long save(int index) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType("TEST")
+                .aggregateId(String.valueOf(index))
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(NOW)
+                .createdAt(NOW)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.backend.repository.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.details.ItemVariantStock;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.ReservationStatus;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.example.backend.entity.item.utility.FavoriteItem;
+import com.example.backend.entity.item.utility.StockReservation;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * ItemRepository 집계/재고 컬럼 갱신 쿼리 확인
+ * - addLikeCount: 한 문장 증감, null은 0으로 보고 0 아래로 내려가지 않음
+ * - syncMissingAggregates: 비어 있는 컬럼만 채움
+ * - fillMissingStock: 비어 있는 재고를 옵션 재고 합계(없으면 0)로 채움
+ * - addStock / resetStockExcludingReserved: 관리자 옵션 재고 수정 시 상품 재고 갱신
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ItemRepositoryTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void addLikeCountAppliesDelta() {
+        Long itemId = saveItem(5);
+
+        assertEquals(1, itemRepository.addLikeCount(itemId, 3));
+        assertEquals(8, likeCount(itemId));
+
+        itemRepository.addLikeCount(itemId, -2);
+        assertEquals(6, likeCount(itemId));
+    }
+
+    @Test
+    void addLikeCountClampsAtZero() {
+        Long itemId = saveItem(2);
+
+        itemRepository.addLikeCount(itemId, -5);
+
+        assertEquals(0, likeCount(itemId));
+    }
+
+    @Test
+    void addLikeCountTreatsNullAsZero() {
+        Long nullItemId = saveItem(null);
+        Long negativeItemId = saveItem(null);
+
+        itemRepository.addLikeCount(nullItemId, 2);
+        itemRepository.addLikeCount(negativeItemId, -1);
+
+        assertEquals(2, likeCount(nullItemId));
+        assertEquals(0, likeCount(negativeItemId));
+    }
+
+    @Test
+    void addLikeCountIgnoresMissingItem() {
+        assertEquals(0, itemRepository.addLikeCount(-1L, 1));
+    }
+
+    @Test
+    void syncMissingAggregatesFillsOnlyNullColumns() {
+        Long missingId = saveItem(null);
+        Long filledId = saveItem(7);
+        Item missing = entityManager.find(Item.class, missingId);
+        Item filled = entityManager.find(Item.class, filledId);
+        for (int i = 0; i < 2; i++) {
+            entityManager.persist(new FavoriteItem(null, missing, null));
+            entityManager.persist(new FavoriteItem(null, filled, null));
+        }
+        entityManager.flush();
+
+        assertEquals(1, itemRepository.countMissingAggregates());
+        assertEquals(1, itemRepository.syncMissingAggregates());
+
+        // 비어 있던 상품만 즐겨찾기 수로 채우고, 값이 있던 상품(버퍼 반영분 포함)은 그대로
+        assertEquals(2, likeCount(missingId));
+        assertEquals(7, likeCount(filledId));
+        assertEquals(0, itemRepository.countMissingAggregates());
+    }
+
+    @Test
+    void fillMissingStockUsesVariantTotalOrZero() {
+        Long plainId = saveItem(0);
+        Long variantId = saveItem(0);
+        Long stockedId = saveItem(0);
+        Item variantItem = entityManager.find(Item.class, variantId);
+        entityManager.persist(ItemVariantStock.builder().item(variantItem).color(ColorEnum.BLACK).size(SizeEnum.M).stock(3).build());
+        entityManager.persist(ItemVariantStock.builder().item(variantItem).color(ColorEnum.WHITE).size(SizeEnum.L).stock(4).build());
+        entityManager.createQuery("update Item i set i.stock = null where i.id in :ids")
+                .setParameter("ids", List.of(plainId, variantId))
+                .executeUpdate();
+
+        assertEquals(2, itemRepository.countMissingStock());
+        assertEquals(2, itemRepository.fillMissingStock());
+
+        entityManager.clear();
+        assertEquals(0, itemRepository.findById(plainId).orElseThrow().getStock());
+        assertEquals(7, itemRepository.findById(variantId).orElseThrow().getStock());
+        assertEquals(10, itemRepository.findById(stockedId).orElseThrow().getStock());
+        assertEquals(0, itemRepository.countMissingStock());
+    }
+
+    @Test
+    void addStockAppliesDeltaAndClampsAtZero() {
+        Long itemId = saveItem(0);
+
+        assertEquals(1, itemRepository.addStock(itemId, 5));
+        assertEquals(15, stock(itemId));
+
+        itemRepository.addStock(itemId, -20);
+        assertEquals(0, stock(itemId));
+    }
+
+    @Test
+    void resetStockExcludingReservedSubtractsOnlyPendingReservations() {
+        Long itemId = saveItem(0);
+        Item item = entityManager.find(Item.class, itemId);
+        saveReservation(item, 3, ReservationStatus.RESERVED);
+        saveReservation(item, 2, ReservationStatus.RESERVED);
+        saveReservation(item, 4, ReservationStatus.CONFIRMED);
+        saveReservation(item, 6, ReservationStatus.RELEASED);
+        entityManager.flush();
+
+        assertEquals(1, itemRepository.resetStockExcludingReserved(itemId, 20));
+        assertEquals(15, stock(itemId));
+
+        itemRepository.resetStockExcludingReserved(itemId, 4);
+        assertEquals(0, stock(itemId));
+    }
+
+    private Long saveItem(Integer likeCount) {
+        Item item = Item.builder().title("상품").price(10000).realPrice(10000).stock(10).likeCount(likeCount).build();
+        itemRepository.saveAndFlush(item);
+        return item.getId();
+    }
+
+    private void saveReservation(Item item, int quantity, ReservationStatus status) {
+        entityManager.persist(StockReservation.builder()
+                .item(item)
+                .quantity(quantity)
+                .status(status)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build());
+    }
+
+    // 벌크 update는 영속성 컨텍스트를 거치지 않으므로 비우고 다시 조회
+    private int likeCount(Long itemId) {
+        entityManager.flush();
+        entityManager.clear();
+        return itemRepository.findById(itemId).orElseThrow().getLikeCount();
+    }
+
+    private int stock(Long itemId) {
+        entityManager.flush();
+        entityManager.clear();
+        return itemRepository.findById(itemId).orElseThrow().getStock();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JwtTokenProvider 검증 결과 재사용 확인
+ * - 파서는 init에서 한 번만 생성, 같은 토큰은 만료 전까지 캐시된 Claims 사용
+ * - 위조/만료 토큰은 캐시와 관계없이 거부
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "mySecretKeyForJwtTokenMustBeLongEnough123456789";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = newProvider(1_000);
+    }
+
+    static JwtTokenProvider newProvider(int claimsCacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenValidity", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidity", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", claimsCacheSize);
+        provider.init();
+        return provider;
+    }
+
+    @Test
+    void parserIsCreatedOnceAndReused() {
+        Object parser = ReflectionTestUtils.getField(provider, "parser");
+        assertNotNull(parser);
+
+        provider.validateToken(provider.createAccessToken(1L, "a@example.com", "USER"));
+        provider.validateToken(provider.createAccessToken(2L, "b@example.com", "ADMIN"));
+
+        assertSame(parser, ReflectionTestUtils.getField(provider, "parser"));
+    }
+
+    @Test
+    void sameTokenHitsClaimsCache() {
+        String token = provider.createAccessToken(7L, "user@example.com", "USER");
+
+        Claims first = provider.getValidClaims(token);
+        Claims second = provider.getValidClaims(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(7L, provider.getUserId(token));
+        assertEquals("user@example.com", provider.getEmail(token));
+        assertEquals("USER", provider.getRole(token));
+    }
+
+    @Test
+    void differentTokenMissesClaimsCache() {
+        Claims user = provider.getValidClaims(provider.createAccessToken(7L, "user@example.com", "USER"));
+        Claims admin = provider.getValidClaims(provider.createAccessToken(8L, "admin@example.com", "ADMIN"));
+
+        assertNotSame(user, admin);
+        assertEquals(7L, provider.getUserId(user));
+        assertEquals(8L, provider.getUserId(admin));
+        assertEquals("ADMIN", provider.getRole(admin));
+    }
+
+    @Test
+    void evictedTokenIsVerifiedAgain() {
+        JwtTokenProvider small = newProvider(1);
+        String first = small.createAccessToken(1L, "a@example.com", "USER");
+        String second = small.createAccessToken(2L, "b@example.com", "USER");
+
+        Claims cached = small.getValidClaims(first);
+        small.getValidClaims(second);
+
+        // 캐시 크기 1 -> first는 밀려나 다시 검증 (같은 내용의 새 Claims)
+        Claims reparsed = small.getValidClaims(first);
+        assertNotSame(cached, reparsed);
+        assertEquals(1L, small.getUserId(reparsed));
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = provider.createAccessToken(7L, "user@example.com", "USER");
+        assertTrue(provider.validateToken(token));
+
+        // 서명 위조 - 캐시 키가 달라지므로 다시 검증되어 거부
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertFalse(provider.validateToken(tampered));
+        assertNull(provider.getValidClaims(tampered));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        ReflectionTestUtils.setField(provider, "accessTokenValidity", -1_000L);
+        String expired = provider.createAccessToken(7L, "user@example.com", "USER");
+
+        assertNull(provider.getValidClaims(expired));
+        assertFalse(provider.validateToken(expired));
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterExpiry() throws InterruptedException {
+        ReflectionTestUtils.setField(provider, "accessTokenValidity", 2_000L);
+        String token = provider.createAccessToken(7L, "user@example.com", "USER");
+        assertTrue(provider.validateToken(token));
+
+        // exp는 초 단위로 내림 -> 발급 후 1~2초 사이에 만료, 2초 넘게 지나면 캐시에 있어도 거부
+        Thread.sleep(2_100);
+        assertFalse(provider.validateToken(token));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtAuthenticationFilter 요청당 인증 비용 비교 (./gradlew benchmark)
+ * - 변경 전: validateToken/getUserId/getEmail/getRole 각각 새 파서로 파싱 + 서명 검증 (4회)
+ * - 변경 후 캐시 미스: 재사용 파서로 1회 검증 (요청마다 다른 토큰)
+ * - 변경 후 캐시 적중: 검증 없이 캐시된 Claims
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJwtTokenMustBeLongEnough123456789";
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+    // 캐시 미스 측정용 - 캐시 크기보다 많은 토큰을 돌아가며 사용
+    private static final int DISTINCT_TOKENS = 2_000;
+    private static final int CACHE_SIZE = 100;
+
+    // JIT가 결과를 버리지 않도록 누적
+    private long sink;
+
+    @Test
+    void compareAuthCostPerRequest() {
+        JwtTokenProvider provider = JwtTokenProviderTest.newProvider(CACHE_SIZE);
+        SecretKey key = Keys.hmacShaKeyFor(Base64.getEncoder().encodeToString(SECRET.getBytes()).getBytes());
+
+        String[] tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = provider.createAccessToken((long) i, "user" + i + "@example.com", "USER");
+        }
+        String hot = tokens[0];
+        int[] cursor = {0};
+        Supplier<String> nextCold = () -> tokens[cursor[0]++ % DISTINCT_TOKENS];
+
+        run(WARMUP, () -> beforeFilter(key, hot));
+        run(WARMUP, () -> afterFilter(provider, nextCold.get()));
+        run(WARMUP, () -> afterFilter(provider, hot));
+
+        long before = run(ITERATIONS, () -> beforeFilter(key, hot));
+        long afterMiss = run(ITERATIONS, () -> afterFilter(provider, nextCold.get()));
+        long afterHit = run(ITERATIONS, () -> afterFilter(provider, hot));
+
+        System.out.printf("[JWT] before: %.2f us, after (miss): %.2f us, after (hit): %.2f us per request (%d requests)%n",
+                perRequestMicros(before), perRequestMicros(afterMiss), perRequestMicros(afterHit), ITERATIONS);
+
+        // 서명 검증 4회 -> 1회, 캐시 적중이면 검증 없음
+        assertTrue(afterMiss < before, "캐시 미스도 변경 전보다 빨라야 함");
+        assertTrue(afterHit < afterMiss, "캐시 적중이 캐시 미스보다 빨라야 함");
+    }
+
+    // 변경 전 필터 동작 재현: 호출마다 새 파서 생성 + 파싱 4회
+    private static Object beforeFilter(SecretKey key, String token) {
+        parseWithNewParser(key, token);
+        Long userId = Long.parseLong(parseWithNewParser(key, token).getSubject());
+        String email = parseWithNewParser(key, token).get("email", String.class);
+        String role = parseWithNewParser(key, token).get("role", String.class);
+        return userId + email + role;
+    }
+
+    // 변경 후 필터 동작: Claims 한 번 조회
+    private static Object afterFilter(JwtTokenProvider provider, String token) {
+        Claims claims = provider.getValidClaims(token);
+        return provider.getUserId(claims) + provider.getEmail(claims) + provider.getRole(claims);
+    }
+
+    private static Claims parseWithNewParser(SecretKey key, String token) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private long run(int iterations, Supplier<Object> request) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += request.get().hashCode();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double perRequestMicros(long nanos) {
+        return nanos / 1_000.0 / ITERATIONS;
+    }
+}
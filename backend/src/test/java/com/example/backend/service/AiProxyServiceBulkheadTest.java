@@ -0,0 +1,133 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.backend.dto.AiProxyRequest;
+import com.example.backend.service.ratelimit.Bulkhead;
+import com.example.backend.service.ratelimit.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import reactor.core.Disposable;
+
+/**
+ * AiProxyService.stream 벌크헤드 허가 반납 확인 (Flux.using 정리 경로, OpenAI 대신 로컬 스텁 서버)
+ * - 스트림이 끝나면 반납, 클라이언트가 중간에 끊어도(cancel) 반납
+ * - 허가를 못 받으면 OpenAI를 호출하지 않고 오류 이벤트
+ */
+class AiProxyServiceBulkheadTest {
+
+    private static final String CHUNK = "data: {\"choices\":[{\"delta\":{\"content\":\"안녕하세요\"}}]}\n\n";
+
+    private HttpServer server;
+    // 열린 스트림을 붙잡아 두는 서버 응답 - countDown 시 [DONE]으로 종료
+    private final CountDownLatch finish = new CountDownLatch(1);
+    private Bulkhead bulkhead;
+    private AiProxyService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(CHUNK.getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                finish.await(10, TimeUnit.SECONDS);
+                body.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // 클라이언트가 먼저 끊은 경우
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        bulkhead = new Bulkhead(1, 0, 0);
+        service = new AiProxyService("test-key", "http://127.0.0.1:" + server.getAddress().getPort(), 10, 60,
+                new RestTemplate(), WebClient.builder(), new ObjectMapper(), bulkhead,
+                new TokenBucketRateLimiter(100, 100, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        finish.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void permitIsReleasedWhenClientCancels() throws Exception {
+        List<ServerSentEvent<String>> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = service.stream(request("chat"), "user:1").subscribe(events::add);
+
+        await(() -> !events.isEmpty());
+        assertEquals("안녕하세요", events.get(0).data());
+        assertEquals(1, bulkhead.getActiveCount());
+
+        // 브라우저가 연결을 끊음
+        subscription.dispose();
+
+        await(() -> bulkhead.getActiveCount() == 0);
+    }
+
+    @Test
+    void permitIsReleasedWhenStreamCompletes() throws Exception {
+        List<ServerSentEvent<String>> events = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        service.stream(request("chat"), "user:1").subscribe(events::add, error -> completed.countDown(), completed::countDown);
+
+        await(() -> !events.isEmpty());
+        finish.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals("done", events.get(events.size() - 1).event());
+        assertEquals(0, bulkhead.getActiveCount());
+    }
+
+    @Test
+    void rejectedStreamReturnsErrorEventWithoutReleasingOthersPermit() {
+        // 다른 요청이 허가를 잡고 있음 (대기열 0)
+        assertTrue(bulkhead.tryAcquire());
+
+        List<ServerSentEvent<String>> events = service.stream(request("chat"), "user:2").collectList().block();
+
+        assertEquals(1, events.size());
+        assertEquals("error", events.get(0).event());
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(1, bulkhead.getRejectedCount());
+        bulkhead.release();
+    }
+
+    private static AiProxyRequest request(String purpose) {
+        return new AiProxyRequest(purpose, List.of(new AiProxyRequest.ChatMessage("user", "안녕")));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("조건을 만족하지 않음");
+            Thread.sleep(10);
+        }
+    }
+}
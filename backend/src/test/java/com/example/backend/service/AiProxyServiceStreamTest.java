@@ -0,0 +1,151 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.backend.dto.AiProxyRequest;
+import com.example.backend.dto.AiProxyRequest.ChatMessage;
+import com.example.backend.service.ratelimit.Bulkhead;
+import com.example.backend.service.ratelimit.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * AiProxyService 스트리밍/캐시를 로컬 스텁 서버(OpenAI SSE 형식)로 확인
+ */
+class AiProxyServiceStreamTest {
+
+    private static final String CLIENT = "ip:127.0.0.1";
+    private static final List<String> TOKENS = List.of("안녕", "하세요", ", 무엇을", " 도와드릴까요?");
+
+    private HttpServer server;
+    private final AtomicInteger streamCalls = new AtomicInteger();
+    private final AtomicInteger completionCalls = new AtomicInteger();
+    private AiProxyService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        service = new AiProxyService("test-key", "http://127.0.0.1:" + server.getAddress().getPort(),
+                100, 60, new RestTemplate(), WebClient.builder(), new ObjectMapper(),
+                new Bulkhead(4, 4, 1000), new TokenBucketRateLimiter(100, 100, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamRelaysTokensInOrder() {
+        List<ServerSentEvent<String>> events = service.stream(request("recommend", "여름 티셔츠 추천"), CLIENT).collectList().block();
+
+        assertEquals(TOKENS.size() + 1, events.size());
+        for (int i = 0; i < TOKENS.size(); i++) {
+            assertEquals(TOKENS.get(i), events.get(i).data());
+        }
+        assertEquals("done", events.get(TOKENS.size()).event());
+    }
+
+    @Test
+    void repeatedSupportQuestionSkipsUpstream() {
+        AiProxyRequest question = request("support", "배송은 얼마나 걸리나요?");
+
+        String first = join(service.stream(question, CLIENT).collectList().block());
+        // 공백만 다른 같은 질문도 캐시 사용
+        String second = join(service.stream(request("support", "  배송은  얼마나 걸리나요? "), CLIENT).collectList().block());
+        String blocking = service.send(question, CLIENT).content();
+
+        assertEquals(String.join("", TOKENS), first);
+        assertEquals(first, second);
+        assertEquals(first, blocking);
+        assertEquals(1, streamCalls.get());
+        assertEquals(0, completionCalls.get());
+    }
+
+    @Test
+    void nonSupportPromptIsNotCached() {
+        AiProxyRequest question = request("recommend", "겨울 코트 추천");
+
+        service.stream(question, CLIENT).collectList().block();
+        service.stream(question, CLIENT).collectList().block();
+
+        assertEquals(2, streamCalls.get());
+    }
+
+    @Test
+    void upstreamFailureEndsWithFallbackEvent() {
+        server.stop(0);
+
+        List<ServerSentEvent<String>> events = service.stream(request("support", "환불 문의"), CLIENT).collectList().block();
+
+        ServerSentEvent<String> last = events.get(events.size() - 1);
+        assertEquals("error", last.event());
+        assertTrue(last.data().startsWith("죄송합니다"));
+    }
+
+    private static AiProxyRequest request(String purpose, String question) {
+        return new AiProxyRequest(purpose, List.of(
+                new ChatMessage("system", "너는 패션 쇼핑몰 고객센터 상담원이다."),
+                new ChatMessage("user", question)));
+    }
+
+    private static String join(List<ServerSentEvent<String>> events) {
+        StringBuilder content = new StringBuilder();
+        events.stream().filter(event -> event.event() == null).forEach(event -> content.append(event.data()));
+        return content.toString();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (!body.contains("\"stream\":true")) {
+                completionCalls.incrementAndGet();
+                byte[] bytes = ("{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\""
+                        + String.join("", TOKENS) + "\"}}]}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                out.write(bytes);
+                return;
+            }
+
+            streamCalls.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            // 역할 조각 -> 토큰 조각 -> 종료 조각 -> [DONE]
+            write(out, "{\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}");
+            for (String token : TOKENS) {
+                write(out, "{\"choices\":[{\"delta\":{\"content\":\"" + token + "\"}}]}");
+            }
+            write(out, "{\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}]}");
+            write(out, "[DONE]");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void write(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
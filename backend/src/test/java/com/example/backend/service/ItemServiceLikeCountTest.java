@@ -0,0 +1,143 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.user.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.item.FavoriteItemRepository;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.service.cache.ItemDetailCache;
+import com.example.backend.service.cache.ItemLikeCountBuffer;
+import com.example.backend.service.cache.ItemStockCache;
+import com.example.backend.service.search.ItemFacetIndex;
+import com.example.backend.service.search.ItemSearchIndex;
+
+/**
+ * 즐겨찾기 토글 -> 좋아요 수 반영 동시성 테스트 (H2)
+ * - 여러 사용자가 한 상품을 동시에 수천 번 토글하는 동안 flush가 계속 돌아도
+ *   최종 Item.likeCount가 즐겨찾기 행 수와 같은지 (롤백된 토글은 좋아요 수에도 반영되지 않음)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:item-like-count;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ItemService.class, ItemLikeCountBuffer.class, ItemSearchIndex.class, ItemFacetIndex.class,
+        ItemDetailCache.class, ItemStockCache.class})
+@ActiveProfiles("test")
+// 토글마다 실제 트랜잭션으로 커밋되도록 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItemServiceLikeCountTest {
+
+    private static final int THREADS = 32;
+    private static final int USERS = 200;
+    private static final int TOGGLES = 4_000;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemLikeCountBuffer itemLikeCountBuffer;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private FavoriteItemRepository favoriteItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long itemId;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        itemId = itemRepository.save(Item.builder().title("인기 상품").price(10000).realPrice(10000).stock(10).build()).getId();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("like" + i + "@test.com")
+                    .username("user" + i)
+                    .password("password")
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        favoriteItemRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void likeCountMatchesFavoriteRowsAfterConcurrentToggles() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        // 스케줄러 대신 별도 스레드에서 토글과 겹쳐 계속 flush
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                itemLikeCountBuffer.flush();
+            }
+        });
+        flusher.start();
+
+        // 사용자마다 여러 번 토글 - 같은 사용자의 토글이 동시에 겹쳐 일부는 롤백될 수 있음
+        AtomicInteger committed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TOGGLES; i++) {
+                User user = users.get(i % USERS);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        itemService.toggleFavoriteItem(itemId, user);
+                        committed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // 롤백된 토글은 즐겨찾기 행과 좋아요 수 모두 변경 없음
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            running.set(false);
+            flusher.join();
+        }
+        itemLikeCountBuffer.flush();
+
+        // 상품이 하나뿐이므로 전체 즐겨찾기 행 수 = 이 상품의 즐겨찾기 수
+        long favorites = favoriteItemRepository.count();
+        assertTrue(committed.get() > 0);
+        assertEquals(favorites, itemRepository.findById(itemId).orElseThrow().getLikeCount().longValue());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.backend.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.service.event.ItemChangedEvent;
+
+/**
+ * ItemLikeCountBuffer 동시 증감 / flush 테스트 (리포지토리는 mock)
+ * - 여러 스레드가 증감하는 동안 flush가 계속 돌아도 리포지토리에 전달된 합계가 유실되지 않는지
+ * - 반영 실패 시 증감분을 다시 쌓아 다음 flush에서 반영하는지
+ */
+class ItemLikeCountConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int TOGGLES = 10_000;
+    private static final long HOT_ITEM_ID = 1L;
+
+    private ItemRepository itemRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ItemLikeCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        buffer = new ItemLikeCountBuffer(itemRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher);
+    }
+
+    @Test
+    void flushKeepsEveryDeltaUnderConcurrentToggles() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        when(itemRepository.addLikeCount(anyLong(), anyInt())).thenAnswer(invocation -> {
+            flushed.addAndGet(invocation.<Integer>getArgument(1));
+            return 1;
+        });
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 스케줄러 대신 별도 스레드에서 계속 flush
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        // 모든 요청이 좋아요, 3의 배수 번째는 바로 좋아요 취소
+        long expected = runConcurrently(TOGGLES, i -> {
+            buffer.add(HOT_ITEM_ID, 1);
+            if (i % 3 == 0) {
+                buffer.add(HOT_ITEM_ID, -1);
+                return 0;
+            }
+            return 1;
+        });
+
+        running.set(false);
+        flusher.join();
+        buffer.flush();
+
+        assertEquals(expected, flushed.get());
+        assertEquals(Map.of(), buffer.drain());
+        verify(eventPublisher, atLeastOnce()).publishEvent(ItemChangedEvent.stats(HOT_ITEM_ID));
+    }
+
+    @Test
+    void failedFlushRequeuesDeltas() {
+        buffer.add(HOT_ITEM_ID, 3);
+        buffer.add(2L, -1);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("DB 연결 실패");
+        }).when(itemRepository).addLikeCount(anyLong(), anyInt());
+
+        buffer.flush();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        // 실패한 증감분 + 그 사이 들어온 증감분을 다음 주기에 함께 반영
+        List<String> applied = new ArrayList<>();
+        doAnswer(invocation -> {
+            applied.add(invocation.getArgument(0) + ":" + invocation.getArgument(1));
+            return 1;
+        }).when(itemRepository).addLikeCount(anyLong(), anyInt());
+        buffer.add(HOT_ITEM_ID, 1);
+
+        buffer.flush();
+
+        // 상품 ID 순서로 반영
+        assertEquals(List.of("1:4", "2:-1"), applied);
+        assertEquals(Map.of(), buffer.drain());
+        verify(eventPublisher).publishEvent(ItemChangedEvent.stats(HOT_ITEM_ID));
+        verify(eventPublisher).publishEvent(ItemChangedEvent.stats(2L));
+    }
+
+    @Test
+    void deltaInsideTransactionIsAppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.add(HOT_ITEM_ID, 1);
+            assertEquals(Map.of(), buffer.drain());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(Map.of(HOT_ITEM_ID, 1L), buffer.drain());
+    }
+
+    @Test
+    void rolledBackDeltaIsDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.add(HOT_ITEM_ID, 1);
+        } finally {
+            // afterCommit 없이 종료 = 롤백
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        buffer.flush();
+
+        verify(itemRepository, never()).addLikeCount(anyLong(), anyInt());
+    }
+
+    /**
+     * 모든 스레드가 동시에 출발하도록 맞춘 뒤 작업 실행
+     * @return 작업 반환값 합계 (기대 증감분)
+     */
+    private static long runConcurrently(int count, Toggle toggle) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return toggle.run(index);
+                }));
+            }
+            start.countDown();
+            long sum = 0;
+            for (Future<Integer> future : futures) {
+                sum += future.get();
+            }
+            return sum;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Toggle {
+        int run(int index) throws Exception;
+    }
+}
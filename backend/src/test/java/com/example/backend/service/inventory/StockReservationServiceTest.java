@@ -0,0 +1,313 @@
+package com.example.backend.service.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.details.ItemVariantStock;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.ReservationStatus;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.example.backend.entity.item.utility.OrderItem;
+import com.example.backend.entity.item.utility.StockReservation;
+import com.example.backend.repository.item.ItemRepository;
+import com.example.backend.repository.item.ItemVariantStockRepository;
+import com.example.backend.repository.item.OrderItemRepository;
+import com.example.backend.repository.item.StockReservationRepository;
+
+/**
+ * StockReservationService 재고 예약 동시성 테스트 (H2)
+ * - 재고가 적은 상품에 동시 주문을 몰아도 초과 판매가 없고, 성공한 주문 수만큼만 재고가 줄어드는지
+ * - 장바구니 담은 순서가 주문마다 달라도 (2, 1) / (1, 2) 교착 상태 없이 끝나는지
+ * - 같은 상품의 옵션 여러 개를 담은 주문끼리도 교착 상태 없이 끝나는지 (옵션 재고 행 -> 상품 행 순서)
+ * - 여러 서버에서 만료 정리가 동시에 돌아도 재고가 한 번만 복구되는지
+ * - 옵션 재고 차감 여부를 DB(옵션 재고 행) 기준으로 정하고 예약에 기록하는지
+ * - 주문 취소 시 예약/확정된 재고가 한 번만 복구되는지
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stock-reservation;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StockReservationService.class)
+@ActiveProfiles("test")
+// 각 주문이 실제 트랜잭션으로 커밋/롤백되도록 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockReservationServiceTest {
+
+    private static final int THREADS = 16;
+    private static final int CHECKOUTS = 400;
+    private static final int LOW_STOCK = 50;
+    private static final int OTHER_STOCK = 1_000;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ItemVariantStockRepository itemVariantStockRepository;
+
+    private Long lowId;
+    private Long otherId;
+
+    @BeforeEach
+    void setUp() {
+        lowId = saveItem(LOW_STOCK);
+        otherId = saveItem(OTHER_STOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(stockReservationService, "ttlMinutes", 15L);
+        stockReservationRepository.deleteAllInBatch();
+        itemVariantStockRepository.deleteAllInBatch();
+        orderItemRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentCheckoutsNeverOversellOrDeadlock() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        runConcurrently(CHECKOUTS, index -> {
+            // 담은 순서 그대로 (정렬하지 않은 맵) - 절반은 (other, low), 절반은 (low, other)
+            Map<StockKey, Integer> cart = new LinkedHashMap<>();
+            if (index % 2 == 0) {
+                cart.put(new StockKey(otherId, null, null), 1);
+                cart.put(new StockKey(lowId, null, null), 1);
+            } else {
+                cart.put(new StockKey(lowId, null, null), 1);
+                cart.put(new StockKey(otherId, null, null), 1);
+            }
+            try {
+                order(cart);
+                succeeded.incrementAndGet();
+            } catch (RuntimeException e) {
+                // 재고 부족만 허용 - 잠금 대기 초과/교착 상태는 그대로 실패
+                if (!e.getMessage().startsWith("재고가 부족합니다")) throw e;
+                soldOut.incrementAndGet();
+            }
+        });
+
+        assertEquals(LOW_STOCK, succeeded.get());
+        assertEquals(CHECKOUTS - LOW_STOCK, soldOut.get());
+        assertEquals(0, stockOf(lowId));
+        assertEquals(OTHER_STOCK - LOW_STOCK, stockOf(otherId));
+        // 재고 부족으로 롤백된 주문은 앞서 차감한 재고/예약도 남지 않음
+        assertEquals(LOW_STOCK * 2, stockReservationRepository.count());
+    }
+
+    @Test
+    void concurrentCheckoutsOfSeveralVariantsOfOneItemDoNotDeadlock() throws Exception {
+        Item item = itemRepository.findById(otherId).orElseThrow();
+        itemVariantStockRepository.save(ItemVariantStock.builder().item(item).color(ColorEnum.BLACK).size(SizeEnum.M).stock(OTHER_STOCK / 2).build());
+        itemVariantStockRepository.save(ItemVariantStock.builder().item(item).color(ColorEnum.WHITE).size(SizeEnum.L).stock(OTHER_STOCK / 2).build());
+        StockKey black = new StockKey(otherId, ColorEnum.BLACK, SizeEnum.M);
+        StockKey white = new StockKey(otherId, ColorEnum.WHITE, SizeEnum.L);
+
+        // (BLACK, WHITE) / (WHITE, BLACK) / WHITE만 / BLACK만 - 옵션마다 상품 행을 잠그면 옵션 A -> 상품 -> 옵션 B 순서가 섞임
+        runConcurrently(CHECKOUTS, index -> {
+            Map<StockKey, Integer> cart = new LinkedHashMap<>();
+            switch (index % 4) {
+                case 0 -> { cart.put(black, 1); cart.put(white, 1); }
+                case 1 -> { cart.put(white, 1); cart.put(black, 1); }
+                case 2 -> cart.put(white, 1);
+                default -> cart.put(black, 1);
+            }
+            order(cart);
+        });
+
+        // 옵션마다 주문 3/4에 1개씩, 상품 합계는 그 두 배
+        int soldPerVariant = CHECKOUTS * 3 / 4;
+        assertEquals(OTHER_STOCK - soldPerVariant * 2, stockOf(otherId));
+        assertEquals(OTHER_STOCK / 2 - soldPerVariant, variantStockOf(otherId, ColorEnum.BLACK, SizeEnum.M));
+        assertEquals(OTHER_STOCK / 2 - soldPerVariant, variantStockOf(otherId, ColorEnum.WHITE, SizeEnum.L));
+    }
+
+    @Test
+    void releasingExpiredReservationsRestoresStockOnce() throws Exception {
+        // 예약 즉시 만료
+        ReflectionTestUtils.setField(stockReservationService, "ttlMinutes", -1L);
+        Long orderId = order(Map.of(new StockKey(lowId, null, null), 3));
+        assertEquals(LOW_STOCK - 3, stockOf(lowId));
+
+        // 여러 서버에서 동시에 만료 정리가 돌아도 한 번만 복구
+        runConcurrently(THREADS, ignored -> stockReservationService.releaseExpired());
+
+        assertEquals(LOW_STOCK, stockOf(lowId));
+        assertEquals(ReservationStatus.RELEASED, stockReservationRepository.findAllByOrderId(orderId).get(0).getStatus());
+    }
+
+    @Test
+    void cancelingConfirmedOrderRestoresStockOnce() {
+        Item item = itemRepository.findById(lowId).orElseThrow();
+        itemVariantStockRepository.save(ItemVariantStock.builder().item(item).color(ColorEnum.BLACK).size(SizeEnum.M).stock(LOW_STOCK).build());
+        Map<StockKey, Integer> cart = new LinkedHashMap<>();
+        cart.put(new StockKey(otherId, null, null), 5);
+        cart.put(new StockKey(lowId, ColorEnum.BLACK, SizeEnum.M), 3);
+
+        Long orderId = order(cart);
+        stockReservationService.confirm(orderId);
+        assertEquals(LOW_STOCK - 3, stockOf(lowId));
+        assertEquals(LOW_STOCK - 3, variantStockOf(lowId, ColorEnum.BLACK, SizeEnum.M));
+        assertEquals(OTHER_STOCK - 5, stockOf(otherId));
+
+        // 결제 취소 (PaymentService.cancelOrder와 같이 주문 상태 전이 트랜잭션 안에서), 중복 취소는 복구 없음
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status -> stockReservationService.release(orderId));
+        }
+
+        assertEquals(LOW_STOCK, stockOf(lowId));
+        assertEquals(LOW_STOCK, variantStockOf(lowId, ColorEnum.BLACK, SizeEnum.M));
+        assertEquals(OTHER_STOCK, stockOf(otherId));
+        stockReservationRepository.findAllByOrderId(orderId)
+                .forEach(reservation -> assertEquals(ReservationStatus.RELEASED, reservation.getStatus()));
+    }
+
+    @Test
+    void cancelingAfterExpiryReleaseDoesNotRestoreTwice() {
+        ReflectionTestUtils.setField(stockReservationService, "ttlMinutes", -1L);
+        Long orderId = order(Map.of(new StockKey(lowId, null, null), 3));
+
+        stockReservationService.releaseExpired();
+        transactionTemplate.executeWithoutResult(status -> stockReservationService.release(orderId));
+
+        assertEquals(LOW_STOCK, stockOf(lowId));
+    }
+
+    @Test
+    void insufficientStockRollsBackWholeOrder() {
+        Map<StockKey, Integer> cart = new LinkedHashMap<>();
+        cart.put(new StockKey(otherId, null, null), 5);
+        cart.put(new StockKey(lowId, null, null), LOW_STOCK + 1);
+
+        assertThrows(RuntimeException.class, () -> order(cart));
+
+        assertEquals(LOW_STOCK, stockOf(lowId));
+        assertEquals(OTHER_STOCK, stockOf(otherId));
+        assertEquals(0, stockReservationRepository.count());
+    }
+
+    @Test
+    void optionStockIsDecreasedWhenVariantRowsExist() {
+        Item item = itemRepository.findById(lowId).orElseThrow();
+        itemVariantStockRepository.save(ItemVariantStock.builder().item(item).color(ColorEnum.BLACK).size(SizeEnum.M).stock(2).build());
+        itemVariantStockRepository.save(ItemVariantStock.builder().item(item).color(ColorEnum.WHITE).size(SizeEnum.L).stock(LOW_STOCK - 2).build());
+
+        Long orderId = order(Map.of(new StockKey(lowId, ColorEnum.BLACK, SizeEnum.M), 2));
+
+        StockReservation reservation = stockReservationRepository.findAllByOrderId(orderId).get(0);
+        assertEquals(ColorEnum.BLACK, reservation.getColor());
+        assertEquals(SizeEnum.M, reservation.getSize());
+        assertEquals(0, variantStockOf(lowId, ColorEnum.BLACK, SizeEnum.M));
+        assertEquals(LOW_STOCK - 2, stockOf(lowId));
+
+        // 옵션 재고가 바닥나면 상품 재고(합계)가 남아 있어도 거부
+        assertThrows(RuntimeException.class, () -> order(Map.of(new StockKey(lowId, ColorEnum.BLACK, SizeEnum.M), 1)));
+        // 판매하지 않는 옵션도 거부
+        assertThrows(RuntimeException.class, () -> order(Map.of(new StockKey(lowId, ColorEnum.RED, SizeEnum.S), 1)));
+        assertEquals(LOW_STOCK - 2, stockOf(lowId));
+    }
+
+    @Test
+    void itemWithoutVariantRowsDecreasesItemStockOnly() {
+        Long orderId = order(Map.of(new StockKey(otherId, ColorEnum.BLACK, SizeEnum.M), 4));
+
+        // 옵션 재고를 차감하지 않았으므로 예약에도 옵션 없음 (해제 시 상품 재고만 복구)
+        StockReservation reservation = stockReservationRepository.findAllByOrderId(orderId).get(0);
+        assertNull(reservation.getColor());
+        assertNull(reservation.getSize());
+        assertEquals(OTHER_STOCK - 4, stockOf(otherId));
+    }
+
+    /**
+     * 주문 생성 트랜잭션 (OrderService.order와 같이 주문 저장 + 재고 예약)
+     * @return 주문 ID
+     */
+    private Long order(Map<StockKey, Integer> cart) {
+        return transactionTemplate.execute(status -> {
+            OrderItem orderItem = orderItemRepository.save(OrderItem.builder().build());
+            stockReservationService.reserve(orderItem, cart);
+            return orderItem.getId();
+        });
+    }
+
+    private Long saveItem(int stock) {
+        return itemRepository.save(Item.builder().title("상품").price(10000).realPrice(10000).stock(stock).build()).getId();
+    }
+
+    private int stockOf(Long itemId) {
+        return itemRepository.findById(itemId).orElseThrow().getStock();
+    }
+
+    private int variantStockOf(Long itemId, ColorEnum color, SizeEnum size) {
+        return itemVariantStockRepository.findStockRowsByItemId(itemId).stream()
+                .filter(row -> row.color() == color && row.size() == size)
+                .findFirst().orElseThrow().stock();
+    }
+
+    private static void runConcurrently(int count, Checkout checkout) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    checkout.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Checkout {
+        void run(int index) throws Exception;
+    }
+}
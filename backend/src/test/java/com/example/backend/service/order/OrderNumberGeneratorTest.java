@@ -0,0 +1,143 @@
+package com.example.backend.service.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 여러 노드(발급기 인스턴스)가 같은 블록 테이블(AtomicLong으로 대체)을 공유할 때 중복 없이 발급되는지 확인
+ * 다음 블록은 요청 스레드가 아닌 미리 할당 스레드에서 받아오는지 확인
+ */
+class OrderNumberGeneratorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T09:00:00Z"), ZoneOffset.UTC);
+    private static final Executor PREFETCH = ForkJoinPool.commonPool();
+
+    @Test
+    void concurrentNodesNeverCollide() throws Exception {
+        int blockSize = 50;
+        int threadsPerNode = 8;
+        int perThread = 5_000;
+        AtomicLong nextHi = new AtomicLong();
+        AtomicLong allocations = new AtomicLong();
+        List<OrderNumberGenerator> nodes = List.of(
+                new OrderNumberGenerator(() -> { allocations.incrementAndGet(); return nextHi.getAndIncrement(); }, blockSize, CLOCK, PREFETCH),
+                new OrderNumberGenerator(() -> { allocations.incrementAndGet(); return nextHi.getAndIncrement(); }, blockSize, CLOCK, PREFETCH));
+
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size() * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (OrderNumberGenerator node : nodes) {
+                for (int i = 0; i < threadsPerNode; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int n = 0; n < perThread; n++) {
+                            issued.add(node.next());
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = nodes.size() * threadsPerNode * perThread;
+        assertEquals(total, issued.size());
+        // 블록 단위로만 할당 (노드마다 마지막 블록은 일부만 사용, 미리 할당한 블록은 사용하지 않을 수 있음)
+        assertTrue(allocations.get() <= total / blockSize + nodes.size() * 2);
+    }
+
+    @Test
+    void nextBlockIsAllocatedOffRequestThread() {
+        int blockSize = 100;
+        List<String> allocatingThreads = new CopyOnWriteArrayList<>();
+        AtomicLong nextHi = new AtomicLong();
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "prefetch"));
+        try {
+            OrderNumberGenerator generator = new OrderNumberGenerator(() -> {
+                allocatingThreads.add(Thread.currentThread().getName());
+                return nextHi.getAndIncrement();
+            }, blockSize, CLOCK, prefetchExecutor);
+
+            Set<Long> issued = new HashSet<>();
+            for (int i = 0; i < blockSize * 5; i++) {
+                issued.add(generator.nextSequence());
+            }
+
+            assertEquals(blockSize * 5, issued.size());
+            // 첫 블록만 요청 스레드에서, 이후 블록은 모두 미리 할당
+            assertEquals(Thread.currentThread().getName(), allocatingThreads.get(0));
+            assertTrue(allocatingThreads.subList(1, allocatingThreads.size()).stream().allMatch("prefetch"::equals),
+                    allocatingThreads::toString);
+            assertTrue(allocatingThreads.size() >= 5);
+        } finally {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedPrefetchFallsBackToDirectAllocation() {
+        int blockSize = 20;
+        AtomicLong nextHi = new AtomicLong();
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "prefetch"));
+        try {
+            OrderNumberGenerator generator = new OrderNumberGenerator(() -> {
+                if (Thread.currentThread().getName().equals("prefetch")) throw new IllegalStateException("DB 연결 실패");
+                return nextHi.getAndIncrement();
+            }, blockSize, CLOCK, prefetchExecutor);
+
+            Set<Long> issued = new HashSet<>();
+            for (int i = 0; i < blockSize * 3; i++) {
+                issued.add(generator.nextSequence());
+            }
+
+            assertEquals(blockSize * 3, issued.size());
+            assertEquals(3, nextHi.get());
+        } finally {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void numbersSortByIssueTime() {
+        OrderNumberGenerator early = new OrderNumberGenerator(new AtomicLong(1_000)::getAndIncrement, 10, CLOCK, Runnable::run);
+        OrderNumberGenerator late = new OrderNumberGenerator(new AtomicLong()::getAndIncrement, 10,
+                Clock.offset(CLOCK, Duration.ofSeconds(1)), Runnable::run);
+
+        String first = early.next();
+        String second = early.next();
+        String third = late.next();
+
+        assertEquals(14, first.length());
+        assertTrue(first.matches("[0-9A-Z]+"));
+        assertTrue(first.compareTo(second) < 0);
+        // 다른 노드의 일련번호가 더 작아도 발급 시각이 늦으면 뒤에 정렬
+        assertTrue(second.compareTo(third) < 0);
+    }
+}
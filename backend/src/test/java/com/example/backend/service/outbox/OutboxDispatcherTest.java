@@ -0,0 +1,268 @@
+package com.example.backend.service.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.outbox.OutboxEvent;
+import com.example.backend.entity.outbox.OutboxStatus;
+import com.example.backend.repository.OutboxEventRepository;
+
+/**
+ * OutboxDispatcher 전달/재시도 확인 (H2, 노드마다 디스패처 인스턴스 하나)
+ * - 여러 디스패처가 동시에 돌아도 한 이벤트는 한 번만 전달
+ * - 실패하면 지수 백오프 후 다시 전달, 최대 횟수에 도달하면 FAILED
+ * - 점유가 만료되어 다른 노드가 처리한 이벤트는 늦게 끝난 노드가 결과를 덮어쓰지 않음
+ * - 점유 만료도 시도 횟수에 포함, 만료가 반복되어 최대 횟수에 도달하면 전달하지 않고 FAILED
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-dispatcher;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+    private static final String EVENT_TYPE = "TEST";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentDispatchersDeliverEachEventOnce() throws Exception {
+        int events = 300;
+        for (int i = 0; i < events; i++) {
+            save(String.valueOf(i));
+        }
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        OutboxHandler handler = handler((aggregateId, payload) -> delivered.add(aggregateId));
+
+        int nodes = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int node = 0; node < nodes; node++) {
+                OutboxDispatcher dispatcher = dispatcher(handler, 20, 60);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    dispatcher.dispatch();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(events, delivered.size());
+        assertEquals(events, delivered.stream().distinct().count());
+        assertTrue(outboxEventRepository.findAll().stream().allMatch(event -> event.getStatus() == OutboxStatus.DONE));
+    }
+
+    @Test
+    void failedEventIsRetriedAfterBackoff() {
+        Long id = save("1");
+        List<String> calls = new CopyOnWriteArrayList<>();
+        OutboxDispatcher dispatcher = dispatcher(handler((aggregateId, payload) -> {
+            calls.add(aggregateId);
+            if (calls.size() < 3) throw new IllegalStateException("일시 오류");
+        }), 100, 60);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 300L);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        OutboxEvent failed = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertEquals("일시 오류", failed.getLastError());
+        // 첫 재시도는 backoffBaseMs 뒤
+        assertFalse(failed.getNextAttemptAt().isBefore(before.plus(Duration.ofMillis(300))));
+
+        // 백오프 중에는 전달하지 않음
+        dispatcher.dispatch();
+        assertEquals(1, calls.size());
+
+        // 두 번째 실패는 2배(600ms) 뒤
+        sleep(350);
+        LocalDateTime secondTry = LocalDateTime.now();
+        dispatcher.dispatch();
+        OutboxEvent failedAgain = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(2, failedAgain.getAttempts());
+        assertFalse(failedAgain.getNextAttemptAt().isBefore(secondTry.plus(Duration.ofMillis(600))));
+
+        sleep(650);
+        dispatcher.dispatch();
+        assertEquals(3, calls.size());
+        assertEquals(OutboxStatus.DONE, outboxEventRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void eventIsFailedAfterMaxAttempts() {
+        Long id = save("1");
+        List<String> calls = new CopyOnWriteArrayList<>();
+        OutboxDispatcher dispatcher = dispatcher(handler((aggregateId, payload) -> {
+            calls.add(aggregateId);
+            throw new IllegalStateException("영구 오류");
+        }), 100, 60);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 0L);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch();
+        }
+
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals(3, event.getAttempts());
+        // FAILED 이후로는 전달하지 않음
+        assertEquals(3, calls.size());
+    }
+
+    @Test
+    void slowNodeCannotOverwriteResultAfterLeaseExpires() throws Exception {
+        Long id = save("1");
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch resumeSlow = new CountDownLatch(1);
+        // 점유 시간 0초 - 전달 중에 점유가 만료됨
+        OutboxDispatcher slow = dispatcher(handler((aggregateId, payload) -> {
+            slowStarted.countDown();
+            resumeSlow.await(10, TimeUnit.SECONDS);
+            throw new IllegalStateException("늦은 실패");
+        }), 100, 0);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        OutboxDispatcher other = dispatcher(handler((aggregateId, payload) -> delivered.add(aggregateId)), 100, 60);
+
+        CompletableFuture<Void> slowRun = CompletableFuture.runAsync(slow::dispatch);
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        sleep(10);
+
+        // 만료된 점유를 다른 노드가 가져가 처리
+        other.dispatch();
+        assertEquals(List.of("1"), delivered);
+
+        resumeSlow.countDown();
+        slowRun.get(5, TimeUnit.SECONDS);
+
+        // 늦게 끝난 노드의 실패 기록은 무시되어 완료 상태 유지 (만료된 점유 한 번만 시도로 셈)
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.DONE, event.getStatus());
+        assertEquals(1, event.getAttempts());
+    }
+
+    @Test
+    void repeatedlyExpiredEventIsFailedWithoutDelivery() {
+        // 최대 횟수 직전까지 점유 만료를 반복하고 다시 점유가 만료된 이벤트 (전달할 때마다 노드가 중단된 경우)
+        LocalDateTime now = LocalDateTime.now();
+        Long id = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(EVENT_TYPE)
+                .aggregateId("1")
+                .payload("{}")
+                .status(OutboxStatus.PROCESSING)
+                .attempts(2)
+                .claimToken("crashed")
+                .lockedUntil(now.minusSeconds(1))
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build()).getId();
+
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        OutboxDispatcher dispatcher = dispatcher(handler((aggregateId, payload) -> delivered.add(aggregateId)), 100, 60);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        dispatcher.dispatch();
+
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals(3, event.getAttempts());
+        assertEquals(List.of(), delivered);
+    }
+
+    private OutboxDispatcher dispatcher(OutboxHandler handler, int batchSize, long lockSeconds) {
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository, transactionTemplate, List.of(handler));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", batchSize);
+        ReflectionTestUtils.setField(dispatcher, "lockSeconds", lockSeconds);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 10);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 600_000L);
+        return dispatcher;
+    }
+
+    private static OutboxHandler handler(Delivery delivery) {
+        return new OutboxHandler() {
+            @Override
+            public String eventType() {
+                return EVENT_TYPE;
+            }
+
+            @Override
+            public void handle(String aggregateId, String payload) throws Exception {
+                delivery.handle(aggregateId, payload);
+            }
+        };
+    }
+
+    private Long save(String aggregateId) {
+        LocalDateTime now = LocalDateTime.now();
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(EVENT_TYPE)
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build()).getId();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Delivery {
+        void handle(String aggregateId, String payload) throws Exception;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.backend.service.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * TossPaymentClient를 로컬 스텁 서버(JDK HttpServer)에 붙여 확인
+ * - 인증/멱등키 헤더, 일시적 오류만 같은 멱등키로 재시도, 응답 타임아웃, 서킷 브레이커 차단
+ */
+class TossPaymentClientTest {
+
+    private static final String SECRET_KEY = "test_sk_stub";
+    private static final int READ_TIMEOUT_MS = 500;
+    private static final int MAX_RETRIES = 2;
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private HttpServer server;
+    private final ConcurrentLinkedQueue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private TossPaymentClient client;
+
+    private record StubResponse(int status, String body, long delayMillis) {}
+
+    private record RecordedRequest(String path, String authorization, String idempotencyKey, String body) {}
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        client = new TossPaymentClient(WebClient.builder(),
+                "http://127.0.0.1:" + server.getAddress().getPort(), SECRET_KEY,
+                1_000, READ_TIMEOUT_MS, 10, MAX_RETRIES, 10, FAILURE_THRESHOLD, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void confirmSendsAuthAndIdempotencyKey() {
+        enqueue(200, "{\"status\":\"DONE\",\"orderName\":\"티셔츠\",\"method\":\"카드\"}", 0);
+
+        Map<String, Object> payment = client.confirm("pay_1", "ORDER_1", 15000).block();
+
+        assertEquals("DONE", payment.get("status"));
+        assertEquals(1, requests.size());
+        RecordedRequest request = requests.get(0);
+        assertEquals("/v1/payments/confirm", request.path());
+        String expectedAuth = "Basic " + Base64.getEncoder()
+                .encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
+        assertEquals(expectedAuth, request.authorization());
+        assertNotNull(request.idempotencyKey());
+        assertTrue(request.body().contains("\"amount\":15000"));
+    }
+
+    @Test
+    void sameRequestUsesSameIdempotencyKey() {
+        enqueue(200, "{\"status\":\"DONE\"}", 0);
+        enqueue(200, "{\"status\":\"DONE\"}", 0);
+        enqueue(200, "{\"status\":\"CANCELED\"}", 0);
+
+        client.confirm("pay_1", "ORDER_1", 15000).block();
+        client.confirm("pay_1", "ORDER_1", 15000).block();
+        client.cancel("pay_1", "고객 요청").block();
+
+        assertEquals(requests.get(0).idempotencyKey(), requests.get(1).idempotencyKey());
+        assertTrue(!requests.get(0).idempotencyKey().equals(requests.get(2).idempotencyKey()));
+        assertEquals("/v1/payments/pay_1/cancel", requests.get(2).path());
+    }
+
+    @Test
+    void transientErrorIsRetriedWithSameKey() {
+        enqueue(503, "{\"code\":\"PROVIDER_ERROR\",\"message\":\"일시적 오류\"}", 0);
+        enqueue(200, "{\"status\":\"DONE\"}", 0);
+
+        Map<String, Object> payment = client.confirm("pay_2", "ORDER_2", 1000).block();
+
+        assertEquals("DONE", payment.get("status"));
+        assertEquals(2, requests.size());
+        assertEquals(requests.get(0).idempotencyKey(), requests.get(1).idempotencyKey());
+        assertEquals(PaymentCircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void businessErrorIsNotRetried() {
+        enqueue(400, "{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"한도 초과\"}", 0);
+
+        TossPaymentException e = assertThrows(TossPaymentException.class,
+                () -> client.confirm("pay_3", "ORDER_3", 1000).block());
+
+        assertEquals(400, e.getStatus());
+        assertEquals("REJECT_CARD_PAYMENT", e.getCode());
+        assertEquals("한도 초과", e.getMessage());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void slowResponseTimesOutAfterBoundedRetries() {
+        for (int i = 0; i <= MAX_RETRIES; i++) {
+            enqueue(200, "{\"status\":\"DONE\"}", READ_TIMEOUT_MS * 3L);
+        }
+
+        long start = System.nanoTime();
+        TossPaymentException e = assertThrows(TossPaymentException.class,
+                () -> client.confirm("pay_4", "ORDER_4", 1000).block());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(TossPaymentException.NETWORK_ERROR, e.getCode());
+        assertEquals(MAX_RETRIES + 1, requests.size());
+        // 응답을 끝까지 기다리지 않고 (시도 횟수 x 타임아웃) + 백오프 안에 실패
+        assertTrue(elapsedMs < READ_TIMEOUT_MS * 3L * (MAX_RETRIES + 1), "elapsed " + elapsedMs + "ms");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        for (int i = 0; i < 10; i++) {
+            enqueue(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\",\"message\":\"오류\"}", 0);
+        }
+
+        // 1회 호출 = 최초 1번 + 재시도 2번 -> 3번 연속 실패로 OPEN
+        assertThrows(TossPaymentException.class, () -> client.confirm("pay_5", "ORDER_5", 1000).block());
+        assertEquals(FAILURE_THRESHOLD, requests.size());
+        assertEquals(PaymentCircuitBreaker.State.OPEN, client.getCircuitState());
+
+        TossPaymentException e = assertThrows(TossPaymentException.class,
+                () -> client.confirm("pay_6", "ORDER_6", 1000).block());
+        assertEquals(TossPaymentException.CIRCUIT_OPEN, e.getCode());
+        // OPEN 동안은 스텁 서버로 요청이 가지 않음
+        assertEquals(FAILURE_THRESHOLD, requests.size());
+    }
+
+    private void enqueue(int status, String body, long delayMillis) {
+        responses.add(new StubResponse(status, body, delayMillis));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(new RecordedRequest(exchange.getRequestURI().getPath(),
+                exchange.getRequestHeaders().getFirst("Authorization"),
+                exchange.getRequestHeaders().getFirst("Idempotency-Key"),
+                body));
+
+        StubResponse response = responses.poll();
+        if (response == null) {
+            response = new StubResponse(500, "{\"code\":\"NO_STUB\",\"message\":\"no stub\"}", 0);
+        }
+        try {
+            if (response.delayMillis() > 0) Thread.sleep(response.delayMillis());
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 타임아웃으로 클라이언트가 먼저 연결을 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bulkhead 확인
+ * - 대기열이 가득 차면 기다리지 않고 바로 거절
+ * - 대기 시간 안에 허가가 반납되지 않으면 거절, 반납되면 대기하던 요청이 실행
+ */
+class BulkheadTest {
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        Bulkhead bulkhead = new Bulkhead(1, 0, 10_000);
+        assertTrue(bulkhead.tryAcquire());
+
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+
+        // 대기열 0 -> 대기 시간(10초)을 기다리지 않음
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        assertEquals(1, bulkhead.getRejectedCount());
+        assertEquals(1, bulkhead.getActiveCount());
+    }
+
+    @Test
+    void rejectsAfterWaitTimeout() {
+        Bulkhead bulkhead = new Bulkhead(1, 1, 100);
+        assertTrue(bulkhead.tryAcquire());
+
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        assertEquals(1, bulkhead.getRejectedCount());
+        assertEquals(0, bulkhead.getQueueDepth());
+    }
+
+    @Test
+    void waiterBeyondQueueIsRejectedWhileQueuedOneRuns() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1, 5_000);
+        assertTrue(bulkhead.tryAcquire());
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        waitUntilQueued(bulkhead);
+
+        // 대기열(1)이 차 있으므로 세 번째 요청은 바로 거절
+        assertFalse(bulkhead.tryAcquire());
+
+        // 허가 반납 -> 대기하던 요청이 실행
+        bulkhead.release();
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueDepth());
+
+        bulkhead.release();
+        assertEquals(0, bulkhead.getActiveCount());
+    }
+
+    private static void waitUntilQueued(Bulkhead bulkhead) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getQueueDepth() == 0) {
+            if (System.nanoTime() > deadline) throw new AssertionError("대기열에 들어가지 않음");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucketRateLimiter 확인 (시계는 테스트에서 직접 진행)
+ * - 버킷이 비면 거절, 시간이 지나면 분당 refillPerMinute개씩 다시 허용
+ * - 클라이언트 수가 maxClients를 넘으면 오래 요청이 없던 버킷부터 정리
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 100, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("user:1"));
+        }
+        assertFalse(limiter.tryAcquire("user:1"));
+        assertEquals(1, limiter.getRejectedCount());
+
+        // 다른 클라이언트는 별도 버킷
+        assertTrue(limiter.tryAcquire("user:2"));
+    }
+
+    @Test
+    void refillsOverTime() {
+        // 분당 60개 = 초당 1개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 100, clock::get);
+        assertTrue(limiter.tryAcquire("ip:1"));
+        assertTrue(limiter.tryAcquire("ip:1"));
+        assertFalse(limiter.tryAcquire("ip:1"));
+
+        advance(500);
+        assertFalse(limiter.tryAcquire("ip:1"));
+
+        advance(500);
+        assertTrue(limiter.tryAcquire("ip:1"));
+        assertFalse(limiter.tryAcquire("ip:1"));
+
+        // 오래 쉬어도 capacity까지만 채워짐
+        advance(60_000);
+        assertTrue(limiter.tryAcquire("ip:1"));
+        assertTrue(limiter.tryAcquire("ip:1"));
+        assertFalse(limiter.tryAcquire("ip:1"));
+    }
+
+    @Test
+    void clientCountStaysWithinMaxClients() {
+        int maxClients = 100;
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 20, maxClients, clock::get);
+
+        // 버킷이 가득 차지 않은(요청 직후) 클라이언트만 계속 늘어나도 상한 유지
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip:" + i);
+            advance(1);
+            assertTrue(limiter.getClientCount() <= maxClients);
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedClients() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1, 10, clock::get);
+        // 계속 요청하는 클라이언트 - 토큰을 모두 쓴 상태
+        limiter.tryAcquire("active");
+        limiter.tryAcquire("active");
+
+        for (int i = 0; i < 20; i++) {
+            advance(1);
+            limiter.tryAcquire("idle:" + i);
+            advance(1);
+            assertFalse(limiter.tryAcquire("active"));
+        }
+
+        // 최근에 요청한 active 버킷은 정리되지 않아 빈 상태 그대로 (정리됐다면 새 버킷으로 허용됨)
+        assertFalse(limiter.tryAcquire("active"));
+        assertTrue(limiter.getClientCount() <= 10);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
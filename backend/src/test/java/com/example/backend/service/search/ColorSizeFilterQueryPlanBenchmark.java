@@ -0,0 +1,134 @@
+package com.example.backend.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 색상/사이즈 필터 쿼리 실행 계획 비교 (./gradlew benchmark)
+ * - 변경 전: LEFT JOIN + DISTINCT / count(distinct)
+ * - 변경 후: EXISTS 서브쿼리 (IndexItemSpec.search가 만드는 형태, ColorSizeFilterQueryTest에서 확인)
+ * - H2에서 페이지/카운트 쿼리 결과가 같은지 확인하고 실행 계획과 소요 시간 출력
+ */
+@Tag("benchmark")
+class ColorSizeFilterQueryPlanBenchmark {
+
+    private static final int ITEM_COUNT = 5000;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+    private static final String[] COLORS = {"BLACK", "WHITE", "GRAY", "RED", "BLUE", "NAVY"};
+    private static final String[] SIZES = {"XS", "S", "M", "L", "XL"};
+
+    private static final String JOIN_FILTER = " from item i"
+            + " left join color c on c.item_id = i.id"
+            + " left join size s on s.item_id = i.id"
+            + " where (c.color = 'BLACK' or c.color = 'WHITE') and (s.size = 'M' or s.size = 'L')";
+    private static final String EXISTS_FILTER = " from item i"
+            + " where exists (select c.id from color c where c.item_id = i.id and c.color in ('BLACK', 'WHITE'))"
+            + " and exists (select s.id from size s where s.item_id = i.id and s.size in ('M', 'L'))";
+
+    private static final String BEFORE_PAGE = "select distinct i.id, i.title, i.description, i.real_price" + JOIN_FILTER
+            + " order by i.id desc limit 10 offset 100";
+    private static final String BEFORE_COUNT = "select count(distinct i.id)" + JOIN_FILTER;
+    private static final String AFTER_PAGE = "select i.id, i.title, i.description, i.real_price" + EXISTS_FILTER
+            + " order by i.id desc limit 10 offset 100";
+    private static final String AFTER_COUNT = "select count(i.id)" + EXISTS_FILTER;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:filterplan;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table item (id bigint primary key, title varchar(255), description varchar(2000), real_price int)");
+            statement.execute("create table color (id bigint auto_increment primary key, color varchar(20), item_id bigint)");
+            statement.execute("create table size (id bigint auto_increment primary key, size varchar(20), item_id bigint)");
+            statement.execute("create index idx_color_item on color (item_id)");
+            statement.execute("create index idx_size_item on size (item_id)");
+        }
+        try (PreparedStatement item = connection.prepareStatement("insert into item values (?, ?, ?, ?)");
+             PreparedStatement color = connection.prepareStatement("insert into color (color, item_id) values (?, ?)");
+             PreparedStatement size = connection.prepareStatement("insert into size (size, item_id) values (?, ?)")) {
+            String description = "상품 상세 설명 ".repeat(50);
+            for (long id = 1; id <= ITEM_COUNT; id++) {
+                item.setLong(1, id);
+                item.setString(2, "상품 " + id);
+                item.setString(3, description);
+                item.setInt(4, (int) (id * 100));
+                item.addBatch();
+                // 상품마다 색상 4개, 사이즈 4개 -> JOIN 시 최대 16배 행 증가
+                for (int i = 0; i < 4; i++) {
+                    color.setString(1, COLORS[(int) ((id + i) % COLORS.length)]);
+                    color.setLong(2, id);
+                    color.addBatch();
+                    size.setString(1, SIZES[(int) ((id + i) % SIZES.length)]);
+                    size.setLong(2, id);
+                    size.addBatch();
+                }
+            }
+            item.executeBatch();
+            color.executeBatch();
+            size.executeBatch();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void compareJoinDistinctWithExists() throws SQLException {
+        // 두 방식의 페이지/전체 개수가 같아야 비교 의미가 있음
+        assertEquals(queryIds(BEFORE_PAGE), queryIds(AFTER_PAGE));
+        assertEquals(queryCount(BEFORE_COUNT), queryCount(AFTER_COUNT));
+
+        for (String[] query : new String[][] {
+                {"before page", BEFORE_PAGE}, {"after page", AFTER_PAGE},
+                {"before count", BEFORE_COUNT}, {"after count", AFTER_COUNT}}) {
+            System.out.printf("[filter] === %s ===%n%s%n", query[0], explain(query[1]));
+            System.out.printf("[filter] %s: %d us/query (%d runs)%n", query[0], measure(query[1]), RUNS);
+        }
+    }
+
+    private static List<Long> queryIds(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) ids.add(rs.getLong(1));
+        }
+        return ids;
+    }
+
+    private static long queryCount(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery("explain analyze " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static long measure(String sql) throws SQLException {
+        for (int i = 0; i < WARMUP; i++) queryIds(sql);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) queryIds(sql);
+        return (System.nanoTime() - start) / RUNS / 1000;
+    }
+}
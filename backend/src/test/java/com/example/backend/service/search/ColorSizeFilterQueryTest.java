@@ -0,0 +1,133 @@
+package com.example.backend.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.entity.item.Item;
+import com.example.backend.entity.item.details.Color;
+import com.example.backend.entity.item.details.Size;
+import com.example.backend.entity.item.enums.ColorEnum;
+import com.example.backend.entity.item.enums.SizeEnum;
+import com.example.backend.repository.item.ItemRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 색상/사이즈 필터 (IndexItemSpec.search -> Filter)가 만드는 SQL과 결과 확인
+ * - 상품 행이 중복되지 않도록 JOIN + DISTINCT 대신 EXISTS 서브쿼리
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.backend.service.search.ColorSizeFilterQueryTest$CapturedSql")
+@ActiveProfiles("test")
+class ColorSizeFilterQueryTest {
+
+    private static final int ITEM_COUNT = 30;
+    private static final ColorEnum[] COLORS = {ColorEnum.BLACK, ColorEnum.WHITE, ColorEnum.GRAY, ColorEnum.RED, ColorEnum.BLUE, ColorEnum.NAVY};
+    private static final SizeEnum[] SIZES = {SizeEnum.XS, SizeEnum.S, SizeEnum.M, SizeEnum.L, SizeEnum.XL};
+    private static final Set<ColorEnum> FILTER_COLORS = Set.of(ColorEnum.BLACK, ColorEnum.WHITE);
+    private static final Set<SizeEnum> FILTER_SIZES = Set.of(SizeEnum.M, SizeEnum.L);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 필터 조건에 맞는 상품 ID (최신순)
+    private final List<Long> expectedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = Item.builder().title("상품 " + i).price(10000).realPrice(10000).stock(10).build();
+            // 상품마다 색상 2개, 사이즈 2개 -> JOIN이면 한 상품이 최대 4행
+            List<ColorEnum> colors = List.of(COLORS[i % COLORS.length], COLORS[(i + 1) % COLORS.length]);
+            List<SizeEnum> sizes = List.of(SIZES[i % SIZES.length], SIZES[(i + 2) % SIZES.length]);
+            colors.forEach(color -> item.getColorList().add(Color.builder().color(color).item(item).build()));
+            sizes.forEach(size -> item.getSizeList().add(Size.builder().size(size).item(item).build()));
+            itemRepository.save(item);
+
+            if (colors.stream().anyMatch(FILTER_COLORS::contains) && sizes.stream().anyMatch(FILTER_SIZES::contains)) {
+                expectedIds.add(0, item.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturedSql.STATEMENTS.clear();
+    }
+
+    @Test
+    void colorAndSizeFilterReturnsEachItemOnce() {
+        int pageSize = 3;
+        Page<Item> page = itemRepository.findAll(filter(), PageRequest.of(0, pageSize, Sort.by(Direction.DESC, "id")));
+
+        assertTrue(expectedIds.size() > pageSize);
+        assertEquals(expectedIds.size(), page.getTotalElements());
+        assertEquals(expectedIds.subList(0, pageSize), page.getContent().stream().map(Item::getId).toList());
+
+        List<Long> all = itemRepository.findAll(filter(), Sort.by(Direction.DESC, "id")).stream().map(Item::getId).toList();
+        assertEquals(expectedIds, all);
+    }
+
+    @Test
+    void colorAndSizeFilterUsesExistsWithoutJoinOrDistinct() {
+        itemRepository.findAll(filter(), PageRequest.of(0, 3, Sort.by(Direction.DESC, "id")));
+
+        List<String> itemQueries = CapturedSql.STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from item "))
+                .toList();
+        // 페이지 쿼리 + count 쿼리
+        assertEquals(2, itemQueries.size());
+        for (String sql : itemQueries) {
+            assertFalse(sql.contains("distinct"), sql);
+            assertFalse(sql.contains(" join "), sql);
+            assertTrue(sql.contains("exists"), sql);
+        }
+    }
+
+    @Test
+    void unknownColorMatchesNothing() {
+        Specification<Item> spec = IndexItemSpec.search(null, null, null, null, null,
+                List.of("NOT_A_COLOR"), null, null, null, null);
+
+        assertEquals(0, itemRepository.count(spec));
+    }
+
+    private static Specification<Item> filter() {
+        return IndexItemSpec.search(null, null, null, null, null,
+                List.of("BLACK", "WHITE"), List.of("M", "L"), null, null, null);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수집
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
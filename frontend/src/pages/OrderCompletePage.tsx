@@ -129,7 +129,7 @@ export default function OrderCompletePage() {
               {order.items.map((item, index) => (
                 <ListItem key={index} disablePadding sx={{ py: 1 }}>
                   <ListItemText
-                    primary={item.item_name}
+                    primary={item.title}
                     secondary={`수량: ${item.quantity}개`}
                   />
                   <Typography fontWeight="bold">
@@ -247,7 +247,7 @@ const MyOrdersPage = () => {
                   <Box sx={{ flex: 1 }}>
                     <Typography fontWeight={500}>{item.title}</Typography>
                     <Typography fontSize="0.75rem" color="text.secondary">
-                      {item.color} / {item.size} / {item.number}개
+                      {item.color} / {item.size} / {item.quantity}개
                     </Typography>
                   </Box>
                   <Typography fontWeight={600}>
@@ -68,14 +68,6 @@ const OrderPage: React.FC = () => {
   const paymentWidgetRef = useRef<HTMLDivElement>(null)
   const agreementWidgetRef = useRef<HTMLDivElement>(null)
 
-  // 주문 ID 생성
-  const generateOrderId = () => {
-    const now = new Date()
-    const timestamp = now.getTime()
-    const random = Math.random().toString(36).substring(2, 8)
-    return `ORDER_${timestamp}_${random}`
-  }
-
   useEffect(() => {
     if (location.state?.cartItems && location.state.cartItems.length > 0) {
       setOrderItems(location.state.cartItems)
@@ -229,22 +221,22 @@ const OrderPage: React.FC = () => {
     setError(null)
 
     try {
-      const orderId = generateOrderId()
       const orderName = orderItems.length > 1
         ? `${orderItems[0].productName} 외 ${orderItems.length - 1}건`
         : orderItems[0].productName
 
-      // 주문 정보 백엔드에 저장
-      try {
-        await createOrder({
-          addr: shippingInfo.address + ' ' + shippingInfo.addressDetail,
-          zipCode: shippingInfo.zipcode,
-          username: shippingInfo.name,
-          orderDetail: shippingInfo.memo,
-          call: shippingInfo.phone,
-        })
-      } catch {
-        // 주문 정보 저장 실패해도 결제 진행
+      // 주문 정보 백엔드에 저장 (재고 예약) - 실패(재고 부족 등)하면 결제 진행하지 않음
+      const created = await createOrder({
+        addr: shippingInfo.address + ' ' + shippingInfo.addressDetail,
+        zipCode: shippingInfo.zipcode,
+        username: shippingInfo.name,
+        orderDetail: shippingInfo.memo,
+        call: shippingInfo.phone,
+      })
+      // 백엔드 주문 번호로 결제해야 결제 승인 시 재고 예약이 확정됨
+      const orderId = created?.order_id
+      if (!orderId) {
+        throw new Error('주문 번호를 발급받지 못했습니다. 다시 시도해주세요.')
       }
 
       // 토스페이먼츠 결제 요청